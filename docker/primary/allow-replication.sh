@@ -0,0 +1,5 @@
+#!/bin/bash
+# Autorise les connexions de réplication (réplica du profil "replica" de docker-compose).
+# Exécuté uniquement à l'initialisation d'un volume de données vierge.
+set -e
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,138 @@
+package fr.hachim.quizapi.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import fr.hachim.quizapi.core.dto.ApiResponse;
+import fr.hachim.quizapi.core.dto.PageResponse;
+import fr.hachim.quizapi.core.dto.QuizDTO;
+import fr.hachim.quizapi.core.mapper.CategoryMapper;
+import fr.hachim.quizapi.core.mapper.QuizMapper;
+import fr.hachim.quizapi.core.mapper.TagMapper;
+import fr.hachim.quizapi.core.model.Category;
+import fr.hachim.quizapi.core.model.Quiz;
+import fr.hachim.quizapi.core.model.Tag;
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+
+/**
+ * Jeux de données des benchmarks : une page de quiz répartis sur quelques catégories,
+ * avec leurs tags. Générés avec une graine fixe pour que deux exécutions mesurent les mêmes données.
+ */
+final class BenchmarkData {
+
+    /** Taille de page mesurée (taille maximale d'une page de l'API). */
+    static final int PAGE_SIZE = 100;
+
+    /** Total annoncé par les pages, pour un catalogue de taille réaliste. */
+    static final long TOTAL_ELEMENTS = 10_000;
+
+    private static final String[] DIFFICULTY_LEVELS = { "EASY", "MEDIUM", "HARD" };
+    private static final String[] STATUSES = { "DRAFT", "PUBLISHED", "ARCHIVED" };
+    private static final int CATEGORY_COUNT = 10;
+    private static final int TAG_COUNT = 30;
+    private static final int TAGS_PER_QUIZ = 3;
+
+    final List<Category> categories = new ArrayList<>();
+    final List<Tag> tags = new ArrayList<>();
+    final List<Quiz> quizzes = new ArrayList<>();
+    final Map<UUID, Set<Tag>> tagsByQuizId = new HashMap<>();
+
+    private final Random random = new Random(42);
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    BenchmarkData() {
+        UUID author = new UUID(random.nextLong(), random.nextLong());
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            Category category = new Category();
+            category.setId(new UUID(random.nextLong(), random.nextLong()));
+            category.setName("Catégorie " + i);
+            category.setDescription("Description de la catégorie " + i);
+            category.setParentId(i == 0 ? null : categories.get(0).getId());
+            category.setCreatedAt(now.minusDays(365 - i));
+            category.setCreatedBy(author);
+            categories.add(category);
+        }
+        for (int i = 0; i < TAG_COUNT; i++) {
+            Tag tag = new Tag();
+            tag.setId(new UUID(random.nextLong(), random.nextLong()));
+            tag.setName("tag-" + i);
+            tag.setCreatedAt(now.minusDays(200 - i));
+            tag.setCreatedBy(author);
+            tags.add(tag);
+        }
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Quiz quiz = new Quiz();
+            quiz.setId(new UUID(random.nextLong(), random.nextLong()));
+            quiz.setTitle("Quiz " + i + " : les bases du sujet " + random.nextInt(1000));
+            quiz.setDescription("Une description de longueur moyenne pour le quiz " + i
+                    + ", comparable à celles saisies dans l'interface d'administration.");
+            quiz.setDifficultyLevel(DIFFICULTY_LEVELS[random.nextInt(DIFFICULTY_LEVELS.length)]);
+            quiz.setTimeLimit(300 + random.nextInt(1500));
+            quiz.setPassingScore(BigDecimal.valueOf(50 + random.nextInt(50)));
+            quiz.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            quiz.setIsPublic(random.nextBoolean());
+            quiz.setCategory(categories.get(random.nextInt(CATEGORY_COUNT)));
+            quiz.setCreatedAt(now.minusMinutes(i));
+            quiz.setCreatedBy(author);
+            quizzes.add(quiz);
+            
+            Set<Tag> quizTags = new HashSet<>();
+            while (quizTags.size() < TAGS_PER_QUIZ) {
+                quizTags.add(tags.get(random.nextInt(TAG_COUNT)));
+            }
+            tagsByQuizId.put(quiz.getId(), quizTags);
+        }
+    }
+
+    /**
+     * Crée le mapper de quiz tel que le câble Spring.
+     */
+    static QuizMapper quizMapper() {
+        return new QuizMapper(new CategoryMapper(), new TagMapper());
+    }
+
+    /**
+     * Projections QuizRow correspondant aux quiz, telles que les construit {@code QUIZ_ROW_SELECT}.
+     */
+    List<QuizRow> rows() {
+        return quizzes.stream()
+                .map(quiz -> {
+                    Category category = quiz.getCategory();
+                    return new QuizRow(quiz.getId(), quiz.getTitle(), quiz.getDescription(),
+                            quiz.getDifficultyLevel(), quiz.getTimeLimit(), quiz.getPassingScore(),
+                            quiz.getStatus(), quiz.getIsPublic(), quiz.getCreatedAt(), quiz.getCreatedBy(),
+                            category.getId(), category.getName(), category.getDescription(),
+                            category.getParentId(), category.getCreatedAt(), category.getCreatedBy());
+                })
+                .toList();
+    }
+
+    /**
+     * DTO des quiz avec leurs tags.
+     */
+    List<QuizDTO> quizDTOs() {
+        QuizMapper quizMapper = quizMapper();
+        return quizzes.stream()
+                .map(quiz -> quizMapper.toDTOWithTags(quiz, tagsByQuizId))
+                .toList();
+    }
+
+    /**
+     * Réponse complète d'une page de liste de quiz, telle que la renvoie {@code GET /api/v1/quizzes}.
+     */
+    ApiResponse<PageResponse<QuizDTO>> quizPageResponse() {
+        PageImpl<QuizDTO> page = new PageImpl<>(quizDTOs(), PageRequest.of(0, PAGE_SIZE), TOTAL_ELEMENTS);
+        return ApiResponse.success(PageResponse.from(page), "Quiz récupérés avec succès");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package fr.hachim.quizapi.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import fr.hachim.quizapi.benchmarks.database.BenchmarkDatabase;
+import fr.hachim.quizapi.benchmarks.http.CatalogueLatencyBenchmark;
+
+/**
+ * Point d'entrée du jar de benchmarks ({@code java -jar quiz-benchmarks/target/benchmarks.jar}).
+ * 
+ * Accepte les options habituelles de JMH (par exemple un filtre {@code Serialization}) et ajoute :
+ * le profileur GC, pour suivre le taux d'allocation par opération ({@code gc.alloc.rate.norm}),
+ * et la publication des résultats en JSON dans {@code target/jmh/quiz-benchmarks-<version>.json},
+ * à comparer d'une version à l'autre. {@code -rf} et {@code -rff} restent prioritaires.
+ * Sans filtre, les benchmarks en base ({@code database}) et HTTP ({@code http}) ne sont lancés
+ * que si leur cible est configurée (voir {@link BenchmarkDatabase} et {@link CatalogueLatencyBenchmark}).
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        if (commandLine.shouldList()) {
+            new Runner(commandLine).list();
+            return;
+        }
+        
+        OptionsBuilder builder = new OptionsBuilder();
+        if (commandLine.getIncludes().isEmpty()) {
+            // Sans filtre explicite, ne lancer que les benchmarks dont la cible est configurée
+            if (!BenchmarkDatabase.isConfigured()) {
+                builder.exclude(BenchmarkDatabase.class.getPackageName() + "\\..*");
+            }
+            if (System.getProperty(CatalogueLatencyBenchmark.BASE_URL_PROPERTY) == null) {
+                builder.exclude(CatalogueLatencyBenchmark.class.getPackageName() + "\\..*");
+            }
+        }
+        
+        Options options = builder
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLine.getResult().hasValue() ? commandLine.getResult().get() : defaultResultFile())
+                .build();
+        new Runner(options).run();
+    }
+
+    private static String defaultResultFile() {
+        String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        File directory = new File("target", "jmh");
+        directory.mkdirs();
+        return new File(directory, "quiz-benchmarks-" + (version != null ? version : "dev") + ".json").getPath();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package fr.hachim.quizapi.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.hachim.quizapi.core.dto.CategoryDTO;
+import fr.hachim.quizapi.core.mapper.CategoryMapper;
+
+/**
+ * Conversion des catégories en DTO, avec et sans nombre de quiz (liste des catégories).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryMapperBenchmark {
+
+    private CategoryMapper categoryMapper;
+    private BenchmarkData data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        categoryMapper = new CategoryMapper();
+        data = new BenchmarkData();
+    }
+
+    @Benchmark
+    public List<CategoryDTO> toDTO() {
+        return data.categories.stream()
+                .map(categoryMapper::toDTO)
+                .toList();
+    }
+
+    @Benchmark
+    public List<CategoryDTO> toDTOWithQuizCount() {
+        return data.categories.stream()
+                .map(category -> categoryMapper.toDTOWithQuizCount(category, 42L))
+                .toList();
+    }
+}
\ No newline at end of file
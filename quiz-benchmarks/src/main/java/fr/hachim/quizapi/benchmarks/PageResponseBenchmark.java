@@ -0,0 +1,47 @@
+package fr.hachim.quizapi.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import fr.hachim.quizapi.core.dto.PageResponse;
+import fr.hachim.quizapi.core.dto.QuizDTO;
+
+/**
+ * Construction d'une PageResponse à partir d'une page Spring Data de 100 quiz.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseBenchmark {
+
+    private Page<QuizDTO> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<QuizDTO> quizDTOs = new BenchmarkData().quizDTOs();
+        page = new PageImpl<>(quizDTOs, PageRequest.of(0, BenchmarkData.PAGE_SIZE), BenchmarkData.TOTAL_ELEMENTS);
+    }
+
+    @Benchmark
+    public PageResponse<QuizDTO> from() {
+        return PageResponse.from(page);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package fr.hachim.quizapi.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.hachim.quizapi.core.dto.QuizDTO;
+import fr.hachim.quizapi.core.mapper.QuizMapper;
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+
+/**
+ * Conversion d'une page de quiz en DTO avec leurs tags préchargés, depuis les entités
+ * et depuis les projections QuizRow (chemin des listes).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizMapperBenchmark {
+
+    private QuizMapper quizMapper;
+    private BenchmarkData data;
+    private List<QuizRow> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        quizMapper = BenchmarkData.quizMapper();
+        data = new BenchmarkData();
+        rows = data.rows();
+    }
+
+    @Benchmark
+    public List<QuizDTO> toDTOWithTagsFromEntities() {
+        return data.quizzes.stream()
+                .map(quiz -> quizMapper.toDTOWithTags(quiz, data.tagsByQuizId))
+                .toList();
+    }
+
+    @Benchmark
+    public List<QuizDTO> toDTOWithTagsFromRows() {
+        return rows.stream()
+                .map(row -> quizMapper.toDTOWithTags(row, data.tagsByQuizId))
+                .toList();
+    }
+}
\ No newline at end of file
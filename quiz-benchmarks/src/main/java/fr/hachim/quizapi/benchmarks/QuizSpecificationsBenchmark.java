@@ -0,0 +1,90 @@
+package fr.hachim.quizapi.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import fr.hachim.quizapi.core.model.Category;
+import fr.hachim.quizapi.core.model.Quiz;
+import fr.hachim.quizapi.core.repository.specification.QuizSpecifications;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Construction des prédicats Criteria d'une recherche de quiz à critères multiples.
+ * Le CriteriaBuilder vient d'une SessionFactory Hibernate démarrée sans base
+ * (dialecte PostgreSQL fixé, aucune lecture des métadonnées JDBC) : seule la
+ * construction de la requête est mesurée, pas son exécution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuizSpecificationsBenchmark {
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder criteriaBuilder;
+    private Specification<Quiz> titleOnly;
+    private Specification<Quiz> advancedSearch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Quiz.class)
+                .addAnnotatedClass(Category.class)
+                .setProperty(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+                .setProperty(AvailableSettings.ALLOW_METADATA_ON_BOOT, "false")
+                .buildSessionFactory();
+        criteriaBuilder = sessionFactory.getCriteriaBuilder();
+        
+        titleOnly = QuizSpecifications.notDeleted()
+                .and(QuizSpecifications.titleContains("java"));
+        advancedSearch = QuizSpecifications.notDeleted()
+                .and(QuizSpecifications.hasDifficultyLevel("MEDIUM"))
+                .and(QuizSpecifications.hasStatus("PUBLISHED"))
+                .and(QuizSpecifications.isPublic(true))
+                .and(QuizSpecifications.createdAfter(LocalDateTime.of(2024, 1, 1, 0, 0)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate titleOnly() {
+        return toPredicate(titleOnly);
+    }
+
+    @Benchmark
+    public Predicate advancedSearch() {
+        return toPredicate(advancedSearch);
+    }
+
+    private Predicate toPredicate(Specification<Quiz> specification) {
+        CriteriaQuery<Quiz> query = criteriaBuilder.createQuery(Quiz.class);
+        Root<Quiz> root = query.from(Quiz.class);
+        return specification.toPredicate(root, query, criteriaBuilder);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package fr.hachim.quizapi.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import fr.hachim.quizapi.core.dto.ApiResponse;
+import fr.hachim.quizapi.core.dto.PageResponse;
+import fr.hachim.quizapi.core.dto.QuizDTO;
+
+/**
+ * Sérialisation et désérialisation d'une réponse {@code ApiResponse<PageResponse<QuizDTO>>}
+ * de 100 quiz, en JSON et dans les représentations binaires négociables (CBOR, Smile).
+ * Le mapper JSON est construit comme celui de {@code JsonConfig} et les mappers binaires en sont
+ * des copies, comme dans {@code BinaryFormatsConfig}.
+ * La taille de la charge utile de chaque format est rapportée par le compteur {@code payloadBytes} ;
+ * le coût en allocations est donné par le profileur GC ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final TypeReference<ApiResponse<PageResponse<QuizDTO>>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({ "json", "cbor", "smile" })
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PageResponse<QuizDTO>> response;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        objectMapper = switch (format) {
+            case "cbor" -> jsonMapper.copyWith(new CBORFactory());
+            case "smile" -> jsonMapper.copyWith(new SmileFactory());
+            default -> jsonMapper;
+        };
+        response = new BenchmarkData().quizPageResponse();
+        payload = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize payloadSize) throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<PageResponse<QuizDTO>> decode(PayloadSize payloadSize) throws IOException {
+        return objectMapper.readValue(payload, RESPONSE_TYPE);
+    }
+
+    /**
+     * Taille en octets de la charge utile du format mesuré, rapportée avec les résultats.
+     * JMH additionne les compteurs des itérations : la taille n'est relevée qu'à la dernière.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+
+        private int measurements;
+
+        @TearDown(Level.Iteration)
+        public void measure(SerializationBenchmark benchmark, IterationParams iteration) {
+            if (iteration.getType() == IterationType.MEASUREMENT && ++measurements == iteration.getCount()) {
+                payloadBytes = benchmark.payload.length;
+            }
+        }
+    }
+}
\ No newline at end of file
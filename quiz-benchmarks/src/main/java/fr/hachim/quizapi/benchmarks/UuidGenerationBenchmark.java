@@ -0,0 +1,50 @@
+package fr.hachim.quizapi.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.hachim.quizapi.core.id.UuidV7;
+
+/**
+ * Coût de génération des clés primaires : UUID version 7 (verrou et compteur partagés)
+ * contre UUID version 4 aléatoire, sur un thread et sous contention.
+ * Le gain à l'insertion et sur la taille des index se mesure en base, hors de ce module.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidGenerationBenchmark {
+
+    @Benchmark
+    public UUID v7() {
+        return UuidV7.next();
+    }
+
+    @Benchmark
+    public UUID v4() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID v7Contended() {
+        return UuidV7.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID v4Contended() {
+        return UUID.randomUUID();
+    }
+}
\ No newline at end of file
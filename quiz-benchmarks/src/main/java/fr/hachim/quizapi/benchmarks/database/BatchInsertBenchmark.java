@@ -0,0 +1,104 @@
+package fr.hachim.quizapi.benchmarks.database;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.hachim.quizapi.core.id.UuidV7;
+
+/**
+ * Débit d'insertion de quiz en lignes par seconde, selon la taille des lots JDBC et la
+ * réécriture des lots par le driver ({@code reWriteBatchedInserts}) : {@code batchSize=1}
+ * correspond à un aller-retour par ligne, {@code batchSize=50} aux réglages de l'application
+ * ({@code hibernate.jdbc.batch_size}). Les lignes vont dans une copie de la table {@code quizzes}
+ * (colonnes et valeurs par défaut, sans clés étrangères ni triggers), vidée à chaque itération.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BatchInsertBenchmark.ROWS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    static final int ROWS = 1000;
+
+    private static final String INSERT_SQL = "INSERT INTO bench_batch_quizzes " +
+            "(id, title, description, difficulty_level, time_limit, passing_score, status, is_public, " +
+            "created_at, created_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({ "1", "50" })
+    public int batchSize;
+
+    @Param({ "false", "true" })
+    public boolean rewriteBatchedInserts;
+
+    private Connection connection;
+    private UUID author;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.connect(rewriteBatchedInserts);
+        BenchmarkDatabase.execute(connection, "DROP TABLE IF EXISTS bench_batch_quizzes");
+        BenchmarkDatabase.execute(connection,
+                "CREATE TABLE bench_batch_quizzes (LIKE quizzes INCLUDING DEFAULTS INCLUDING INDEXES)");
+        author = UuidV7.next();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        BenchmarkDatabase.execute(connection, "TRUNCATE bench_batch_quizzes");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        BenchmarkDatabase.execute(connection, "DROP TABLE IF EXISTS bench_batch_quizzes");
+        connection.close();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < ROWS; i++) {
+                statement.setObject(1, UuidV7.next());
+                statement.setString(2, "Quiz " + i);
+                statement.setString(3, "Description du quiz " + i);
+                statement.setString(4, "MEDIUM");
+                statement.setInt(5, 600);
+                statement.setBigDecimal(6, BigDecimal.valueOf(60));
+                statement.setString(7, "DRAFT");
+                statement.setBoolean(8, false);
+                statement.setTimestamp(9, now);
+                statement.setObject(10, author);
+                statement.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return ROWS;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package fr.hachim.quizapi.benchmarks.database;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Connexion des benchmarks en base. La base visée est donnée par des propriétés système
+ * (héritées par les JVM forkées par JMH) et doit avoir été migrée par Flyway :
+ * {@code java -Dquizapi.bench.jdbc-url=jdbc:postgresql://localhost:5432/quizapi_bench
+ * -Dquizapi.bench.username=... -Dquizapi.bench.password=... -jar benchmarks.jar database}.
+ * Les benchmarks n'écrivent que dans leurs propres tables {@code bench_*}, supprimées en fin d'essai.
+ */
+public final class BenchmarkDatabase {
+
+    public static final String JDBC_URL_PROPERTY = "quizapi.bench.jdbc-url";
+    public static final String USERNAME_PROPERTY = "quizapi.bench.username";
+    public static final String PASSWORD_PROPERTY = "quizapi.bench.password";
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * Indique si une base de benchmark est configurée.
+     * 
+     * @return true si {@value #JDBC_URL_PROPERTY} est renseignée
+     */
+    public static boolean isConfigured() {
+        return System.getProperty(JDBC_URL_PROPERTY) != null;
+    }
+
+    /**
+     * Ouvre une connexion sans autocommit sur la base de benchmark.
+     * 
+     * @param rewriteBatchedInserts Active la réécriture des lots d'INSERT en INSERT multi-lignes
+     * @return La connexion
+     * @throws SQLException en cas d'échec de connexion
+     */
+    static Connection connect(boolean rewriteBatchedInserts) throws SQLException {
+        String url = System.getProperty(JDBC_URL_PROPERTY);
+        if (url == null) {
+            throw new IllegalStateException("Propriété " + JDBC_URL_PROPERTY + " absente : aucune base de benchmark");
+        }
+        
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getProperty(USERNAME_PROPERTY, "postgres"));
+        properties.setProperty("password", System.getProperty(PASSWORD_PROPERTY, ""));
+        properties.setProperty("reWriteBatchedInserts", String.valueOf(rewriteBatchedInserts));
+        Connection connection = DriverManager.getConnection(url, properties);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    /**
+     * Exécute une instruction et valide la transaction.
+     */
+    static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+        connection.commit();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package fr.hachim.quizapi.benchmarks.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import fr.hachim.quizapi.core.id.UuidV7;
+
+/**
+ * Débit d'insertion selon l'ordre des clés primaires : UUID version 4 (pages B-tree aléatoires)
+ * contre UUID version 7 (insertions en fin d'index). La table n'est pas vidée entre les itérations,
+ * l'index grossit tout au long de l'essai comme en production ; sa taille et le nombre d'octets
+ * d'index par ligne en fin d'itération sont rapportés par les compteurs de {@link IndexSize}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(KeyOrderInsertBenchmark.ROWS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class KeyOrderInsertBenchmark {
+
+    static final int ROWS = 1000;
+
+    @Param({ "v4", "v7" })
+    public String keyType;
+
+    private Connection connection;
+    private String table;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        table = tableName(keyType);
+        connection = BenchmarkDatabase.connect(true);
+        BenchmarkDatabase.execute(connection, "DROP TABLE IF EXISTS " + table);
+        BenchmarkDatabase.execute(connection, "CREATE TABLE " + table + " (" +
+                "id UUID PRIMARY KEY, " +
+                "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+                "title VARCHAR(255) NOT NULL)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        BenchmarkDatabase.execute(connection, "DROP TABLE IF EXISTS " + table);
+        connection.close();
+    }
+
+    @Benchmark
+    public int insert(IndexSize indexSize) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, title) VALUES (?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                statement.setObject(1, "v7".equals(keyType) ? UuidV7.next() : UUID.randomUUID());
+                statement.setString(2, "Quiz " + i);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return ROWS;
+    }
+
+    private static String tableName(String keyType) {
+        return "bench_keys_" + keyType;
+    }
+
+    /**
+     * Taille de l'index de clé primaire en fin d'essai, rapportée avec les résultats. JMH additionne
+     * les compteurs des itérations : la taille n'est relevée qu'à la dernière. L'état ne dépend pas
+     * de l'instance du benchmark, que JMH dupliquerait : il lit la table par sa propre connexion.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class IndexSize {
+
+        public long indexBytes;
+        public long indexBytesPerRow;
+
+        private Connection connection;
+        private int measurements;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            connection = BenchmarkDatabase.connect(true);
+        }
+
+        @TearDown(Level.Iteration)
+        public void measure(BenchmarkParams params, IterationParams iteration) throws SQLException {
+            if (iteration.getType() != IterationType.MEASUREMENT || ++measurements < iteration.getCount()) {
+                return;
+            }
+            String table = tableName(params.getParam("keyType"));
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT pg_relation_size(?::regclass), (SELECT COUNT(*) FROM " + table + ")")) {
+                statement.setString(1, table + "_pkey");
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    long rows = resultSet.getLong(2);
+                    indexBytes = resultSet.getLong(1);
+                    indexBytesPerRow = rows > 0 ? indexBytes / rows : 0;
+                }
+            }
+            connection.commit();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package fr.hachim.quizapi.benchmarks.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latence des lectures du catalogue sous charge concurrente, mesurée contre une application
+ * démarrée : {@code java -Dquizapi.bench.base-url=http://localhost:8080 -jar benchmarks.jar http}.
+ * Le mode échantillonné publie les percentiles (p50, p99, p99.9) dans les résultats JSON ;
+ * lancer l'application avec puis sans {@code spring.threads.virtual.enabled} pour comparer
+ * les deux modèles de threads à charge égale.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CatalogueLatencyBenchmark {
+
+    public static final String BASE_URL_PROPERTY = "quizapi.bench.base-url";
+
+    private HttpClient client;
+    private HttpRequest quizPage;
+    private HttpRequest categories;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String baseUrl = System.getProperty(BASE_URL_PROPERTY);
+        if (baseUrl == null) {
+            throw new IllegalStateException("Propriété " + BASE_URL_PROPERTY + " absente : aucune application cible");
+        }
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        quizPage = get(baseUrl + "/api/v1/quizzes?page=0&size=20");
+        categories = get(baseUrl + "/api/v1/categories");
+    }
+
+    @Benchmark
+    public int quizPage() throws IOException, InterruptedException {
+        return send(quizPage);
+    }
+
+    @Benchmark
+    public int categories() throws IOException, InterruptedException {
+        return send(categories);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Réponse " + response.statusCode() + " pour " + request.uri());
+        }
+        return response.body().length;
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package fr.hachim.quizapi.core.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import fr.hachim.quizapi.core.config.CacheConfig;
+import fr.hachim.quizapi.core.event.EntityChangedEvent;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Invalide les entrées du cache des quiz après la validation des transactions d'écriture,
+ * afin qu'une lecture concurrente ne puisse pas recharger l'état antérieur au commit.
+ * Chaque invalidation change de génération : une lecture commencée avant ne doit pas laisser
+ * en cache le quiz qu'elle a chargé (voir {@code QuizReadServiceImpl}).
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Retire du cache le quiz modifié. Une catégorie ou un tag pouvant figurer dans
+     * un nombre quelconque de quiz, leur modification vide tout le cache.
+     * 
+     * @param event L'événement de modification (local ou reçu d'une autre instance)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        Cache quizzes = cacheManager.getCache(CacheConfig.QUIZZES);
+        if (quizzes == null) {
+            return;
+        }
+        switch (event.entityType()) {
+            case QUIZ -> {
+                generation.incrementAndGet();
+                quizzes.evict(event.entityUuid());
+            }
+            case CATEGORY, TAG -> {
+                generation.incrementAndGet();
+                quizzes.clear();
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * @return Génération courante, incrémentée avant chaque invalidation
+     */
+    public long generation() {
+        return generation.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+package fr.hachim.quizapi.core.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import fr.hachim.quizapi.core.config.BinaryFormatsConfig;
+import fr.hachim.quizapi.core.config.CacheConfig;
+import fr.hachim.quizapi.core.config.JsonConfig;
+import fr.hachim.quizapi.core.dto.ApiResponse;
+import fr.hachim.quizapi.core.event.EntityChangedEvent;
+
+/**
+ * Cache des réponses pré-sérialisées des endpoints GET les plus sollicités.
+ * 
+ * Une entrée garde les octets de la réponse et son ETag : un appel servi depuis le cache
+ * ne relance ni requête, ni mapping, ni sérialisation, et un client présentant l'ETag courant
+ * dans {@code If-None-Match} reçoit un 304 (traité par Spring MVC pour un ResponseEntity portant
+ * un ETag). L'horodatage de la réponse est celui de sa mise en cache.
+ * Chaque représentation (JSON, CBOR, Smile, voir {@link BinaryFormatsConfig}) a son entrée,
+ * choisie d'après l'en-tête {@code Accept} de la requête ; le JSON reste le format par défaut.
+ * Les réponses sont sérialisées avec les mappers des convertisseurs de Spring MVC (voir
+ * {@link JsonConfig}), pour être identiques à celles écrites par les contrôleurs.
+ */
+@Component
+public class ResponseCache {
+
+    private final Cache cache;
+    private final Map<MediaType, ObjectMapper> mappersByFormat = new LinkedHashMap<>();
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final AtomicLong generation = new AtomicLong();
+    private final TransactionTemplate primaryTransaction;
+
+    public ResponseCache(CacheManager cacheManager, MappingJackson2HttpMessageConverter jsonConverter,
+            MappingJackson2CborHttpMessageConverter cborConverter,
+            MappingJackson2SmileHttpMessageConverter smileConverter,
+            ContentNegotiationManager contentNegotiationManager, PlatformTransactionManager transactionManager) {
+        this.cache = cacheManager.getCache(CacheConfig.RESPONSES);
+        this.mappersByFormat.put(MediaType.APPLICATION_JSON, jsonConverter.getObjectMapper());
+        this.mappersByFormat.put(MediaType.APPLICATION_CBOR, cborConverter.getObjectMapper());
+        this.mappersByFormat.put(BinaryFormatsConfig.APPLICATION_SMILE, smileConverter.getObjectMapper());
+        this.contentNegotiationManager = contentNegotiationManager;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Retourne la réponse en cache pour la clé, ou la construit et la met en cache,
+     * dans le format demandé par la requête en cours.
+     * 
+     * @param key Clé de la réponse (endpoint et paramètres)
+     * @param loader Construit la réponse en cas d'absence
+     * @return La réponse HTTP, avec son ETag
+     */
+    public ResponseEntity<byte[]> serve(String key, Supplier<ApiResponse<?>> loader) {
+        MediaType format = negotiateFormat();
+        SerializedResponse response = get(key, format, loader);
+        return ResponseEntity.ok()
+                .contentType(format)
+                .eTag(response.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(response.body());
+    }
+
+    /**
+     * Retourne la réponse sérialisée en cache pour la clé, ou la construit et la met en cache.
+     * Une réponse construite pendant une invalidation n'est pas conservée : elle peut refléter
+     * l'état antérieur au commit. La réponse est construite dans une transaction en lecture-écriture,
+     * que les lectures du chargeur rejoignent : elle est lue sur le primaire, car un réplica en retard
+     * remettrait en cache l'état que l'invalidation vient d'écarter.
+     * 
+     * @param key Clé de la réponse (endpoint et paramètres)
+     * @param format Format de sérialisation ({@code application/json}, {@code application/cbor}
+     *        ou {@code application/x-jackson-smile})
+     * @param loader Construit la réponse en cas d'absence
+     * @return La réponse sérialisée
+     */
+    public SerializedResponse get(String key, MediaType format, Supplier<ApiResponse<?>> loader) {
+        String formatKey = key + "|" + format.getSubtype();
+        Cache.ValueWrapper cached = cache.get(formatKey);
+        if (cached != null) {
+            return (SerializedResponse) cached.get();
+        }
+        
+        long loadGeneration = generation.get();
+        ApiResponse<?> loaded = primaryTransaction.execute(status -> loader.get());
+        SerializedResponse response = SerializedResponse.of(serialize(loaded, format));
+        cache.put(formatKey, response);
+        if (generation.get() != loadGeneration) {
+            cache.evict(formatKey);
+        }
+        return response;
+    }
+
+    /**
+     * Vide le cache après la validation d'une modification de quiz, de catégorie ou de tag.
+     * Toutes les réponses en cache en dépendent (nombres de quiz par catégorie et par tag,
+     * catégorie et tags des quiz populaires) : le cache est vidé entièrement.
+     * 
+     * @param event L'événement de modification (local ou reçu d'une autre instance)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        switch (event.entityType()) {
+            case QUIZ, QUIZ_BATCH, CATEGORY, TAG -> invalidate();
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Vide le cache. Le changement de génération empêche une construction en cours de
+     * réinsérer une réponse calculée avant l'invalidation.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * Premier format connu accepté par la requête en cours, dans l'ordre de préférence du client ;
+     * JSON hors requête ou si aucun ne convient.
+     */
+    private MediaType negotiateFormat() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return MediaType.APPLICATION_JSON;
+        }
+        
+        List<MediaType> accepted;
+        try {
+            accepted = contentNegotiationManager.resolveMediaTypes(
+                    new ServletWebRequest(servletAttributes.getRequest()));
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        for (MediaType acceptable : accepted) {
+            for (MediaType format : mappersByFormat.keySet()) {
+                if (acceptable.isCompatibleWith(format)) {
+                    return format;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    private byte[] serialize(ApiResponse<?> response, MediaType format) {
+        try {
+            return mappersByFormat.get(format).writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Impossible de sérialiser la réponse", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package fr.hachim.quizapi.core.cache;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * Réponse d'API déjà sérialisée (JSON en UTF-8, CBOR ou Smile), avec son ETag fort.
+ * 
+ * @param body Le contenu sérialisé de la réponse
+ * @param etag L'ETag calculé sur ce contenu, entre guillemets
+ */
+public record SerializedResponse(byte[] body, String etag) {
+
+    /**
+     * Crée une réponse et calcule son ETag, au format de {@code ShallowEtagHeaderFilter}.
+     * 
+     * @param body Le contenu sérialisé de la réponse
+     * @return La réponse
+     */
+    public static SerializedResponse of(byte[] body) {
+        return new SerializedResponse(body, "\"0" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
\ No newline at end of file
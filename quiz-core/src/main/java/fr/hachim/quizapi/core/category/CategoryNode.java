@@ -0,0 +1,38 @@
+package fr.hachim.quizapi.core.category;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import fr.hachim.quizapi.core.model.Category;
+
+/**
+ * Copie immuable d'une catégorie conservée dans un {@link CategoryTree}.
+ * 
+ * @param id ID de la catégorie
+ * @param name Nom
+ * @param description Description
+ * @param parentId ID de la catégorie parente (null pour une racine)
+ * @param createdAt Date de création
+ * @param createdBy ID de l'utilisateur créateur
+ * @param depth Profondeur dans l'arbre (0 pour une racine)
+ */
+public record CategoryNode(UUID id, String name, String description, UUID parentId,
+        LocalDateTime createdAt, UUID createdBy, int depth) {
+
+    /**
+     * Crée une nouvelle entité Category détachée à partir du nœud.
+     * Les modifications de l'entité retournée n'affectent pas l'arbre.
+     * 
+     * @return L'entité correspondante
+     */
+    public Category toCategory() {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        category.setDescription(description);
+        category.setParentId(parentId);
+        category.setCreatedAt(createdAt);
+        category.setCreatedBy(createdBy);
+        return category;
+    }
+}
\ No newline at end of file
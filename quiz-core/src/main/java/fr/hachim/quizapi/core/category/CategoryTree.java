@@ -0,0 +1,261 @@
+package fr.hachim.quizapi.core.category;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import fr.hachim.quizapi.core.model.Category;
+
+/**
+ * Instantané immuable de la hiérarchie des catégories non supprimées.
+ * 
+ * Les nœuds sont numérotés dans l'ordre d'un parcours en profondeur (ordre préfixe,
+ * enfants triés par nom) : les descendants d'un nœud occupent l'intervalle contigu
+ * {@code ]index, exit[}. Le test « X est sous Y » est donc en O(1), et la liste des
+ * descendants est une simple tranche. Les ancêtres sont obtenus en remontant les
+ * pointeurs vers le parent.
+ * 
+ * Une catégorie dont le parent est absent (supprimé) est traitée comme une racine ;
+ * un cycle éventuel est rompu au premier nœud non atteint depuis une racine.
+ */
+public final class CategoryTree {
+
+    private final Map<UUID, Integer> indexById;
+    private final CategoryNode[] nodes;
+    private final int[] parents;
+    private final int[] exits;
+    private final int[][] children;
+    private final int[] roots;
+
+    private CategoryTree(Map<UUID, Integer> indexById, CategoryNode[] nodes, int[] parents,
+            int[] exits, int[][] children, int[] roots) {
+        this.indexById = indexById;
+        this.nodes = nodes;
+        this.parents = parents;
+        this.exits = exits;
+        this.children = children;
+        this.roots = roots;
+    }
+
+    /**
+     * Construit l'arbre à partir des catégories non supprimées.
+     * 
+     * @param categories Catégories non supprimées
+     * @return L'arbre construit
+     */
+    public static CategoryTree of(Collection<Category> categories) {
+        Comparator<Category> byName = Comparator.comparing(Category::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                .thenComparing(Category::getId);
+        List<Category> sorted = categories.stream().sorted(byName).toList();
+        
+        Map<UUID, Category> byId = new HashMap<>();
+        sorted.forEach(category -> byId.put(category.getId(), category));
+        Map<UUID, List<Category>> childrenById = new HashMap<>();
+        List<Category> rootCategories = new ArrayList<>();
+        for (Category category : sorted) {
+            if (category.getParentId() != null && byId.containsKey(category.getParentId())) {
+                childrenById.computeIfAbsent(category.getParentId(), id -> new ArrayList<>()).add(category);
+            } else {
+                rootCategories.add(category);
+            }
+        }
+        
+        int size = sorted.size();
+        Map<UUID, Integer> indexById = new HashMap<>();
+        CategoryNode[] nodes = new CategoryNode[size];
+        int[] parents = new int[size];
+        int[] exits = new int[size];
+        int[][] children = new int[size][];
+        List<Integer> roots = new ArrayList<>();
+        int next = 0;
+        
+        // Les racines sont parcourues d'abord, puis les nœuds restants (pris dans un cycle)
+        List<Category> starts = new ArrayList<>(rootCategories);
+        starts.addAll(sorted);
+        for (Category start : starts) {
+            if (indexById.containsKey(start.getId())) {
+                continue;
+            }
+            roots.add(next);
+            // Pile de [catégorie, index du parent] ; la sortie d'un nœud est fixée quand on le dépile une seconde fois
+            Deque<Object[]> stack = new ArrayDeque<>();
+            stack.push(new Object[] { start, -1 });
+            while (!stack.isEmpty()) {
+                Object[] frame = stack.peek();
+                Category category = (Category) frame[0];
+                Integer visited = indexById.get(category.getId());
+                if (visited != null) {
+                    stack.pop();
+                    exits[visited] = next;
+                    continue;
+                }
+                
+                int index = next++;
+                int parent = (Integer) frame[1];
+                indexById.put(category.getId(), index);
+                parents[index] = parent;
+                nodes[index] = new CategoryNode(category.getId(), category.getName(), category.getDescription(),
+                        parent < 0 ? null : category.getParentId(), category.getCreatedAt(), category.getCreatedBy(),
+                        parent < 0 ? 0 : nodes[parent].depth() + 1);
+                
+                List<Category> pending = childrenById.getOrDefault(category.getId(), List.of()).stream()
+                        .filter(child -> !indexById.containsKey(child.getId()))
+                        .toList();
+                for (int i = pending.size() - 1; i >= 0; i--) {
+                    stack.push(new Object[] { pending.get(i), index });
+                }
+            }
+        }
+        
+        int[] childCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            if (parents[i] >= 0) {
+                childCounts[parents[i]]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            children[i] = new int[childCounts[i]];
+            childCounts[i] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            if (parents[i] >= 0) {
+                children[parents[i]][childCounts[parents[i]]++] = i;
+            }
+        }
+        
+        return new CategoryTree(Map.copyOf(indexById), nodes, parents, exits, children,
+                roots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Recherche un nœud par ID.
+     * 
+     * @param categoryId ID de la catégorie
+     * @return Le nœud (optionnel)
+     */
+    public Optional<CategoryNode> find(UUID categoryId) {
+        Integer index = indexById.get(categoryId);
+        return index == null ? Optional.empty() : Optional.of(nodes[index]);
+    }
+
+    /**
+     * Vérifie si une catégorie est présente dans l'arbre.
+     * 
+     * @param categoryId ID de la catégorie
+     * @return true si la catégorie existe et n'est pas supprimée
+     */
+    public boolean contains(UUID categoryId) {
+        return indexById.containsKey(categoryId);
+    }
+
+    /**
+     * Retourne les catégories racines, triées par nom.
+     * 
+     * @return Liste des nœuds racines
+     */
+    public List<CategoryNode> roots() {
+        return nodesAt(roots);
+    }
+
+    /**
+     * Retourne les enfants directs d'une catégorie, triés par nom.
+     * 
+     * @param categoryId ID de la catégorie
+     * @return Liste des enfants (vide si la catégorie est inconnue)
+     */
+    public List<CategoryNode> children(UUID categoryId) {
+        Integer index = indexById.get(categoryId);
+        return index == null ? List.of() : nodesAt(children[index]);
+    }
+
+    /**
+     * Vérifie si une catégorie a des sous-catégories.
+     * 
+     * @param categoryId ID de la catégorie
+     * @return true si la catégorie a au moins un enfant
+     */
+    public boolean hasChildren(UUID categoryId) {
+        Integer index = indexById.get(categoryId);
+        return index != null && children[index].length > 0;
+    }
+
+    /**
+     * Retourne les ancêtres d'une catégorie, du parent direct à la racine.
+     * 
+     * @param categoryId ID de la catégorie
+     * @return Liste des ancêtres (vide pour une racine ou une catégorie inconnue)
+     */
+    public List<CategoryNode> ancestors(UUID categoryId) {
+        Integer index = indexById.get(categoryId);
+        List<CategoryNode> ancestors = new ArrayList<>();
+        if (index != null) {
+            for (int parent = parents[index]; parent >= 0; parent = parents[parent]) {
+                ancestors.add(nodes[parent]);
+            }
+        }
+        return ancestors;
+    }
+
+    /**
+     * Retourne le fil d'Ariane d'une catégorie : de la racine à la catégorie incluse.
+     * 
+     * @param categoryId ID de la catégorie
+     * @return Liste des nœuds (vide si la catégorie est inconnue)
+     */
+    public List<CategoryNode> breadcrumbs(UUID categoryId) {
+        Integer index = indexById.get(categoryId);
+        if (index == null) {
+            return List.of();
+        }
+        List<CategoryNode> breadcrumbs = ancestors(categoryId);
+        Collections.reverse(breadcrumbs);
+        breadcrumbs.add(nodes[index]);
+        return breadcrumbs;
+    }
+
+    /**
+     * Retourne tous les descendants d'une catégorie, en ordre préfixe.
+     * 
+     * @param categoryId ID de la catégorie
+     * @return Liste des descendants (vide si la catégorie est inconnue)
+     */
+    public List<CategoryNode> descendants(UUID categoryId) {
+        Integer index = indexById.get(categoryId);
+        return index == null ? List.of() : List.of(Arrays.copyOfRange(nodes, index + 1, exits[index]));
+    }
+
+    /**
+     * Vérifie si une catégorie se trouve sous une autre (strictement).
+     * 
+     * @param categoryId ID de la catégorie testée
+     * @param ancestorId ID de l'ancêtre supposé
+     * @return true si {@code categoryId} est un descendant de {@code ancestorId}
+     */
+    public boolean isDescendantOf(UUID categoryId, UUID ancestorId) {
+        Integer index = indexById.get(categoryId);
+        Integer ancestor = indexById.get(ancestorId);
+        return index != null && ancestor != null && ancestor < index && index < exits[ancestor];
+    }
+
+    /**
+     * Retourne le nombre de catégories de l'arbre.
+     * 
+     * @return Le nombre de nœuds
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    private List<CategoryNode> nodesAt(int[] indexes) {
+        return Arrays.stream(indexes).mapToObj(i -> nodes[i]).toList();
+    }
+}
\ No newline at end of file
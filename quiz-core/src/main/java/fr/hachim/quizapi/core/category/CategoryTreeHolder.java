@@ -0,0 +1,124 @@
+package fr.hachim.quizapi.core.category;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import fr.hachim.quizapi.core.config.JsonConfig;
+import fr.hachim.quizapi.core.dto.ApiResponse;
+import fr.hachim.quizapi.core.dto.CategoryTreeNodeDTO;
+import fr.hachim.quizapi.core.event.EntityChangedEvent;
+import fr.hachim.quizapi.core.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Détient l'instantané courant de l'arbre des catégories et sa réponse JSON pré-sérialisée.
+ * L'instantané est construit au démarrage puis reconstruit et remplacé atomiquement après
+ * chaque modification de catégorie validée (locale ou reçue d'une autre instance).
+ * La réponse est sérialisée avec le mapper du convertisseur JSON de Spring MVC (voir
+ * {@link JsonConfig}), comme les autres réponses de l'API.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeHolder {
+
+    private final CategoryRepository categoryRepository;
+    private final MappingJackson2HttpMessageConverter jsonConverter;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * Retourne l'arbre courant, en le construisant au premier appel si nécessaire.
+     * 
+     * @return L'arbre des catégories
+     */
+    public CategoryTree current() {
+        return snapshot().tree();
+    }
+
+    /**
+     * Retourne la réponse de l'API contenant l'arbre complet, déjà sérialisée en JSON.
+     * L'horodatage de la réponse est celui de la construction de l'instantané.
+     * 
+     * @return Le contenu JSON de la réponse
+     */
+    public byte[] serializedTree() {
+        return snapshot().payload();
+    }
+
+    /**
+     * Reconstruit l'instantané depuis la base de données et le publie.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        load();
+    }
+
+    /**
+     * Reconstruit l'arbre après la validation d'une modification de catégorie.
+     * 
+     * @param event L'événement de modification
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.entityType() == EntityChangedEvent.EntityType.CATEGORY) {
+            rebuild();
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        return current != null ? current : load();
+    }
+
+    /**
+     * Synchronisé pour qu'une reconstruction plus ancienne ne remplace jamais une plus récente.
+     */
+    private synchronized Snapshot load() {
+        CategoryTree tree = CategoryTree.of(categoryRepository.findByDeletedAtIsNull());
+        Snapshot loaded = new Snapshot(tree, serialize(tree));
+        snapshot.set(loaded);
+        log.debug("Arbre des catégories reconstruit : {} catégories", tree.size());
+        return loaded;
+    }
+
+    private byte[] serialize(CategoryTree tree) {
+        try {
+            return jsonConverter.getObjectMapper().writeValueAsBytes(ApiResponse.success(toDTOs(tree, tree.roots()),
+                    "Arbre des catégories récupéré avec succès"));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Impossible de sérialiser l'arbre des catégories", e);
+        }
+    }
+
+    private List<CategoryTreeNodeDTO> toDTOs(CategoryTree tree, List<CategoryNode> nodes) {
+        return nodes.stream()
+                .map(node -> CategoryTreeNodeDTO.builder()
+                        .id(node.id())
+                        .name(node.name())
+                        .description(node.description())
+                        .parentId(node.parentId())
+                        .depth(node.depth())
+                        .children(toDTOs(tree, tree.children(node.id())))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Instantané de l'arbre et de sa réponse pré-sérialisée.
+     * 
+     * @param tree Arbre des catégories
+     * @param payload Réponse JSON de l'arbre complet
+     */
+    private record Snapshot(CategoryTree tree, byte[] payload) {
+    }
+}
\ No newline at end of file
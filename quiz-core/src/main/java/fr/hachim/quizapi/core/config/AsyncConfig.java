@@ -0,0 +1,77 @@
+package fr.hachim.quizapi.core.config;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration du traitement asynchrone des requêtes (réponses écrites en flux, comme l'export).
+ * Sans elle, le délai du conteneur (30 s par défaut) interromprait les exports volumineux.
+ * Les traitements suivent le mode threads virtuels de l'application. Au-delà du nombre de
+ * traitements simultanés, une requête est refusée (503) plutôt que de bloquer le thread qui la soumet.
+ */
+@Configuration
+public class AsyncConfig implements WebMvcConfigurer {
+
+    private final Duration requestTimeout;
+    private final int maxConcurrency;
+    private final boolean virtualThreads;
+
+    public AsyncConfig(@Value("${quizapi.async.request-timeout}") Duration requestTimeout,
+            @Value("${quizapi.async.max-concurrency}") int maxConcurrency,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.requestTimeout = requestTimeout;
+        this.maxConcurrency = maxConcurrency;
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new RejectingAsyncTaskExecutor(maxConcurrency);
+        executor.setVirtualThreads(virtualThreads);
+        configurer.setTaskExecutor(executor);
+        configurer.setDefaultTimeout(requestTimeout.toMillis());
+    }
+
+    /**
+     * Exécuteur à nombre de traitements borné qui refuse ({@link TaskRejectedException}) au lieu
+     * d'attendre une place comme {@link SimpleAsyncTaskExecutor#setConcurrencyLimit}.
+     */
+    static class RejectingAsyncTaskExecutor extends SimpleAsyncTaskExecutor {
+
+        private final Semaphore permits;
+        private final int maxConcurrency;
+
+        RejectingAsyncTaskExecutor(int maxConcurrency) {
+            super("mvc-async-");
+            this.permits = new Semaphore(maxConcurrency);
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        protected void doExecute(Runnable task) {
+            if (!permits.tryAcquire()) {
+                throw new TaskRejectedException(
+                        "Nombre maximal de traitements asynchrones atteint (" + maxConcurrency + ")");
+            }
+            try {
+                super.doExecute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package fr.hachim.quizapi.core.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Représentations binaires des réponses : CBOR ({@code application/cbor}) et Smile
+ * ({@code application/x-jackson-smile}), servies aux clients qui les demandent dans {@code Accept}.
+ * Leurs mappers sont des copies de celui du convertisseur JSON (voir {@link JsonConfig}) : les trois
+ * formats partagent modules et options ;
+ * les convertisseurs sont placés après celui du JSON, qui reste la représentation par défaut.
+ */
+@Configuration
+public class BinaryFormatsConfig implements WebMvcConfigurer {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final MappingJackson2CborHttpMessageConverter cborConverter;
+    private final MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    public BinaryFormatsConfig(MappingJackson2HttpMessageConverter jsonConverter) {
+        ObjectMapper objectMapper = jsonConverter.getObjectMapper();
+        this.cborConverter = new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+        this.smileConverter = new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return cborConverter;
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return smileConverter;
+    }
+
+    /**
+     * Remplace les convertisseurs CBOR et Smile par défaut de Spring MVC (mappers non configurés)
+     * par ceux de l'application.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(cborConverter);
+        converters.add(smileConverter);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package fr.hachim.quizapi.core.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration du cache applicatif.
+ * Le gestionnaire Caffeine et les caches sont configurés par les propriétés {@code spring.cache.*}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache des quiz assemblés (QuizDTO avec catégorie et tags), indexé par ID de quiz.
+     */
+    public static final String QUIZZES = "quizzes";
+    
+    /**
+     * Cache des réponses GET pré-sérialisées (voir {@code ResponseCache}), indexé par endpoint et paramètres.
+     */
+    public static final String RESPONSES = "responses";
+}
\ No newline at end of file
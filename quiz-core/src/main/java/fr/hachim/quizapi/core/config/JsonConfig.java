@@ -0,0 +1,45 @@
+package fr.hachim.quizapi.core.config;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Convertisseur JSON des réponses de l'API.
+ * 
+ * Avec {@code @EnableWebMvc}, Spring MVC construit son propre convertisseur JSON, dont le mapper
+ * n'est pas l'ObjectMapper de Spring Boot (les dates y sont par exemple écrites en tableaux).
+ * Ce convertisseur est construit de la même manière mais exposé comme bean, et remplace celui
+ * de Spring MVC : les réponses pré-sérialisées utilisent son mapper et restent identiques
+ * à celles écrites par les contrôleurs.
+ */
+@Configuration
+public class JsonConfig implements WebMvcConfigurer {
+
+    private final MappingJackson2HttpMessageConverter jsonConverter;
+
+    public JsonConfig(ApplicationContext applicationContext) {
+        this.jsonConverter = new MappingJackson2HttpMessageConverter(
+                Jackson2ObjectMapperBuilder.json().applicationContext(applicationContext).build());
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter jsonHttpMessageConverter() {
+        return jsonConverter;
+    }
+
+    /**
+     * Remplace le convertisseur JSON par défaut de Spring MVC, à la même position.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter
+                ? jsonConverter : converter);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package fr.hachim.quizapi.core.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.unit.DataSize;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import fr.hachim.quizapi.core.datasource.ReplicaFallbackDataSource;
+import fr.hachim.quizapi.core.datasource.ReplicaLagMonitor;
+
+/**
+ * Routage des lectures vers un réplica PostgreSQL, actif dès que
+ * {@code quizapi.datasource.replica.jdbc-url} est renseigné.
+ * 
+ * Les transactions {@code @Transactional(readOnly = true)} empruntent au pool du réplica, les autres
+ * au pool du primaire. {@link LazyConnectionDataSourceProxy} ne choisit le pool qu'à la première
+ * requête SQL, une fois le caractère lecture seule de la transaction connu. Chaque pool est un bean
+ * nommé ({@code primary}, {@code replica}) : Actuator en publie les métriques séparément.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "quizapi.datasource.replica", name = "jdbc-url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("quizapi.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${quizapi.datasource.routing.max-lag}") Duration maxLag,
+            @Value("${quizapi.datasource.routing.max-lag-bytes}") DataSize maxLagBytes) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, maxLag, maxLagBytes);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(
+                new ReplicaFallbackDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor));
+        return dataSource;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package fr.hachim.quizapi.core.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import fr.hachim.quizapi.core.datasource.ConcurrencyLimitedDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration du mode threads virtuels ({@code spring.threads.virtual.enabled=true}).
+ * 
+ * Spring Boot exécute alors les requêtes Tomcat, les tâches {@code @Async} et planifiées sur des
+ * threads virtuels. Le nombre de requêtes simultanées n'étant plus borné par le pool de threads,
+ * l'accès à la base l'est ici par un sémaphore placé devant le pool de connexions.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    /**
+     * Enveloppe les DataSource dans un {@link ConcurrencyLimitedDataSource}. Avec un réplica
+     * (voir {@link ReadReplicaConfig}), chaque pool reçoit sa propre limite et le proxy de
+     * routage, qui n'emprunte qu'à ces pools, n'est pas enveloppé.
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        int maxConcurrency = environment.getRequiredProperty("quizapi.db.limiter.max-concurrency", Integer.class);
+        Duration acquireTimeout = environment.getRequiredProperty("quizapi.db.limiter.acquire-timeout", Duration.class);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource
+                        || bean instanceof LazyConnectionDataSourceProxy) {
+                    return bean;
+                }
+                if (dataSource instanceof HikariDataSource hikari && hikari.getMaximumPoolSize() < maxConcurrency) {
+                    log.warn("Limite de concurrence en base ({}) supérieure à la taille du pool {} ({}) : "
+                            + "les requêtes en excès attendront dans le pool", maxConcurrency,
+                            hikari.getPoolName(), hikari.getMaximumPoolSize());
+                }
+                log.info("Accès à la base limité à {} connexions simultanées pour {}", maxConcurrency, beanName);
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeout);
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -1,10 +1,12 @@
 package fr.hachim.quizapi.core.controller;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,11 +17,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import fr.hachim.quizapi.core.cache.ResponseCache;
+import fr.hachim.quizapi.core.category.CategoryTreeHolder;
 import fr.hachim.quizapi.core.dto.ApiResponse;
 import fr.hachim.quizapi.core.dto.CategoryDTO;
 import fr.hachim.quizapi.core.mapper.CategoryMapper;
 import fr.hachim.quizapi.core.model.Category;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
 import fr.hachim.quizapi.core.service.CategoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -34,36 +40,45 @@ public class CategoryController {
 
     private final CategoryService categoryService;
     private final CategoryMapper categoryMapper;
+    private final CategoryTreeHolder categoryTreeHolder;
+    private final ResponseCache responseCache;
     
     /**
-     * Récupère toutes les catégories.
+     * Récupère toutes les catégories, servies depuis le cache des réponses pré-sérialisées.
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CategoryDTO>>> getAllCategories(
+    public ResponseEntity<byte[]> getAllCategories(
             @RequestParam(required = false) Boolean onlyRoots) {
         
-        List<Category> categories;
-        if (Boolean.TRUE.equals(onlyRoots)) {
-            categories = categoryService.findRootCategories();
-        } else {
-            categories = categoryService.findAllCategories();
-        }
-        
-        List<CategoryDTO> categoryDTOs = categories.stream()
-                .map(categoryMapper::toDTO)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(ApiResponse.success(categoryDTOs, 
-                "Catégories récupérées avec succès"));
+        boolean roots = Boolean.TRUE.equals(onlyRoots);
+        return responseCache.serve(roots ? "categories:roots" : "categories", () -> {
+            List<Category> categories;
+            if (roots) {
+                categories = categoryService.findRootCategories();
+            } else {
+                categories = categoryService.findAllCategories();
+            }
+            
+            List<CategoryDTO> categoryDTOs = categories.stream()
+                    .map(category -> categoryMapper.toDTOWithQuizCount(category, category.getQuizCount()))
+                    .collect(Collectors.toList());
+            
+            return ApiResponse.success(categoryDTOs, "Catégories récupérées avec succès");
+        });
     }
     
     /**
-     * Récupère une catégorie par son ID.
+     * Récupère une catégorie par son ID (GET conditionnel, voir {@link ConditionalRequests}).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<CategoryDTO>> getCategoryById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<CategoryDTO>> getCategoryById(@PathVariable UUID id, ServletWebRequest request) {
+        Optional<ResourceVersion> version = categoryService.findCategoryVersion(id);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        
         return categoryService.findCategoryById(id)
-                .map(category -> ResponseEntity.ok(ApiResponse.success(
+                .map(category -> ConditionalRequests.ok(version).body(ApiResponse.success(
                         categoryMapper.toDTO(category), 
                         "Catégorie récupérée avec succès")))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -84,6 +99,46 @@ public class CategoryController {
                 "Sous-catégories récupérées avec succès"));
     }
     
+    /**
+     * Récupère tous les descendants d'une catégorie.
+     */
+    @GetMapping("/{id}/descendants")
+    public ResponseEntity<ApiResponse<List<CategoryDTO>>> getDescendants(@PathVariable UUID id) {
+        List<CategoryDTO> descendantDTOs = categoryService.findDescendants(id).stream()
+                .map(categoryMapper::toDTO)
+                .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(ApiResponse.success(descendantDTOs, 
+                "Descendants récupérés avec succès"));
+    }
+    
+    /**
+     * Récupère le fil d'Ariane d'une catégorie (de la racine à la catégorie).
+     */
+    @GetMapping("/{id}/breadcrumbs")
+    public ResponseEntity<ApiResponse<List<CategoryDTO>>> getBreadcrumbs(@PathVariable UUID id) {
+        List<CategoryDTO> breadcrumbDTOs = categoryService.getCategoryBreadcrumbs(id).stream()
+                .map(categoryMapper::toDTO)
+                .collect(Collectors.toList());
+        
+        if (breadcrumbDTOs.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("Catégorie non trouvée"));
+        }
+        return ResponseEntity.ok(ApiResponse.success(breadcrumbDTOs, 
+                "Fil d'Ariane récupéré avec succès"));
+    }
+    
+    /**
+     * Récupère l'arbre complet des catégories, servi depuis une réponse pré-sérialisée.
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<byte[]> getCategoryTree() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(categoryTreeHolder.serializedTree());
+    }
+    
     /**
      * Crée une nouvelle catégorie.
      */
@@ -0,0 +1,53 @@
+package fr.hachim.quizapi.core.controller;
+
+import java.util.Optional;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
+
+/**
+ * GET conditionnels des lectures unitaires.
+ * 
+ * La version de la ressource est sondée par une requête légère avant tout chargement : si elle
+ * correspond à {@code If-None-Match} (ou, à défaut, à {@code If-Modified-Since}), la réponse 304
+ * est émise sans charger, assembler ni sérialiser la ressource. Les deux réponses portent
+ * {@code Cache-Control: no-cache} (conserver, mais revalider à chaque usage), qui remplace
+ * l'en-tête {@code no-store} ajouté par défaut par Spring Security.
+ */
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Vérifie la requête conditionnelle et prépare la réponse 304 si le client est à jour.
+     * Le contrôleur retourne alors {@code null} : la réponse est déjà complète.
+     * 
+     * @param request La requête
+     * @param version Version courante de la ressource (vide si elle n'existe pas)
+     * @return true si la ressource n'a pas été modifiée
+     */
+    static boolean notModified(ServletWebRequest request, Optional<ResourceVersion> version) {
+        if (version.isEmpty() || !request.checkNotModified(version.get().etag(), version.get().lastModified())) {
+            return false;
+        }
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        return true;
+    }
+
+    /**
+     * Réponse 200 portant l'ETag et la date de dernière modification de la version.
+     * 
+     * @param version Version de la ressource renvoyée
+     * @return Le constructeur de réponse
+     */
+    static ResponseEntity.BodyBuilder ok(Optional<ResourceVersion> version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        version.ifPresent(current -> builder.eTag(current.etag()).lastModified(current.lastModified()));
+        return builder;
+    }
+}
\ No newline at end of file
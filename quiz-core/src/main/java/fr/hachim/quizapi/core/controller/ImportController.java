@@ -0,0 +1,95 @@
+package fr.hachim.quizapi.core.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import fr.hachim.quizapi.core.exception.BusinessException;
+import fr.hachim.quizapi.core.importer.ImportFormat;
+import fr.hachim.quizapi.core.importer.ImportProgress;
+import fr.hachim.quizapi.core.importer.ImportReport;
+import fr.hachim.quizapi.core.service.QuizImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Contrôleur REST pour l'import en masse de quiz.
+ * La réponse est un flux NDJSON : une ligne d'avancement pendant le traitement,
+ * puis une ligne finale COMPLETED (avec le bilan) ou FAILED.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/import")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final QuizImportService quizImportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Importe des quiz envoyés en NDJSON (un objet par ligne).
+     */
+    @PostMapping(consumes = NDJSON, produces = NDJSON)
+    public void importNdjson(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        importQuizzes(request, response, ImportFormat.NDJSON);
+    }
+
+    /**
+     * Importe des quiz envoyés en CSV (avec en-tête, tags séparés par des points-virgules).
+     */
+    @PostMapping(consumes = "text/csv", produces = NDJSON)
+    public void importCsv(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        importQuizzes(request, response, ImportFormat.CSV);
+    }
+
+    private void importQuizzes(HttpServletRequest request, HttpServletResponse response, ImportFormat format)
+            throws IOException {
+        response.setContentType(NDJSON);
+        OutputStream output = response.getOutputStream();
+        try {
+            ImportReport report = quizImportService.importQuizzes(request.getInputStream(), format,
+                    progress -> write(output, progress));
+            write(output, ImportProgress.completed(report));
+        } catch (BusinessException e) {
+            fail(response, output, HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (UncheckedIOException e) {
+            // Client déconnecté ou flux interrompu : la transaction a été annulée
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            log.error("Échec de l'import de quiz", e);
+            fail(response, output, HttpStatus.INTERNAL_SERVER_ERROR, "Erreur lors de l'import");
+        }
+    }
+
+    /**
+     * Signale l'échec dans le flux ; le statut HTTP n'est modifiable que si aucune ligne
+     * d'avancement n'a encore été envoyée.
+     */
+    private void fail(HttpServletResponse response, OutputStream output, HttpStatus status, String message) {
+        if (!response.isCommitted()) {
+            response.setStatus(status.value());
+        }
+        write(output, ImportProgress.failed(message));
+    }
+
+    private void write(OutputStream output, ImportProgress progress) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(progress));
+            output.write('\n');
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
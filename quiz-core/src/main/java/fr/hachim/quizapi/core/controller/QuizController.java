@@ -1,14 +1,24 @@
 package fr.hachim.quizapi.core.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,24 +26,49 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import fr.hachim.quizapi.core.cache.ResponseCache;
 import fr.hachim.quizapi.core.dto.ApiResponse;
+import fr.hachim.quizapi.core.dto.CursorPageResponse;
+import fr.hachim.quizapi.core.dto.FacetedPageResponse;
 import fr.hachim.quizapi.core.dto.PageResponse;
 import fr.hachim.quizapi.core.dto.QuizCreationDTO;
 import fr.hachim.quizapi.core.dto.QuizDTO;
+import fr.hachim.quizapi.core.dto.QuizSearchResultDTO;
 import fr.hachim.quizapi.core.exception.BusinessException;
 import fr.hachim.quizapi.core.exception.ResourceNotFoundException;
+import fr.hachim.quizapi.core.exporter.ExportFormat;
+import fr.hachim.quizapi.core.exporter.QuizExportRecord;
+import fr.hachim.quizapi.core.exporter.QuizExportWriter;
 import fr.hachim.quizapi.core.mapper.QuizMapper;
 import fr.hachim.quizapi.core.model.Category;
 import fr.hachim.quizapi.core.model.Quiz;
 import fr.hachim.quizapi.core.model.Tag;
+import fr.hachim.quizapi.core.pagination.KeysetCursor;
+import fr.hachim.quizapi.core.repository.projection.QuizField;
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
+import fr.hachim.quizapi.core.search.QuizSearchCriteria;
+import fr.hachim.quizapi.core.search.QuizSearchHit;
+import fr.hachim.quizapi.core.search.QuizSearchResult;
 import fr.hachim.quizapi.core.service.CategoryService;
+import fr.hachim.quizapi.core.service.QuizExportService;
+import fr.hachim.quizapi.core.service.QuizReadService;
+import fr.hachim.quizapi.core.service.QuizSearchService;
 import fr.hachim.quizapi.core.service.QuizService;
 import fr.hachim.quizapi.core.service.TagService;
+import jakarta.persistence.Tuple;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -44,92 +79,264 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class QuizController {
 
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final QuizService quizService;
+    private final QuizReadService quizReadService;
     private final CategoryService categoryService;
     private final TagService tagService;
+    private final QuizSearchService quizSearchService;
     private final QuizMapper quizMapper;
+    private final QuizExportService quizExportService;
+    private final QuizExportWriter quizExportWriter;
+    private final ResponseCache responseCache;
     
     /**
      * Récupère tous les quiz, avec pagination.
+     * {@code fields} restreint la requête et la réponse aux champs listés (voir {@link QuizField}),
+     * {@code envelope=false} renvoie la page sans l'enveloppe {@link ApiResponse}.
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<PageResponse<QuizDTO>>> getAllQuizzes(
+    public ResponseEntity<?> getAllQuizzes(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String direction) {
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "true") boolean envelope) {
         
         Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? 
                 Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
         
-        Page<Quiz> quizzesPage = quizService.findAllQuizzes(pageable);
-        Page<QuizDTO> quizDTOsPage = quizzesPage.map(quiz -> {
-            List<Tag> tags = tagService.findTagsByQuizId(quiz.getId());
-            return quizMapper.toDTOWithTags(quiz, tags.stream().collect(Collectors.toSet()));
-        });
+        if (fields != null) {
+            return respond(findSparseQuizPage(QuizField.parse(fields), null, pageable),
+                    "Quiz récupérés avec succès", envelope);
+        }
+        
+        Page<QuizRow> quizzesPage = quizService.findAllQuizRows(pageable);
+        Map<UUID, Set<Tag>> tagsByQuizId = findTagsByRows(quizzesPage.getContent());
+        Page<QuizDTO> quizDTOsPage = quizzesPage.map(row -> quizMapper.toDTOWithTags(row, tagsByQuizId));
+        
+        return respond(PageResponse.from(quizDTOsPage), "Quiz récupérés avec succès", envelope);
+    }
+    
+    /**
+     * Récupère les quiz par curseur (pagination keyset), du plus récent au plus ancien.
+     * Activé par la présence du paramètre {@code after} : une valeur vide demande la
+     * première page, puis chaque réponse fournit le curseur de la page suivante.
+     * Aucun total n'est calculé, le coût d'une page ne dépend pas de sa profondeur.
+     * {@code envelope=false} renvoie la page sans l'enveloppe {@link ApiResponse}.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<?> getQuizzesByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "true") boolean envelope) {
         
-        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(quizDTOsPage), 
-                "Quiz récupérés avec succès"));
+        KeysetCursor cursor = after.isBlank() ? null : KeysetCursor.decode(after);
+        List<QuizRow> rows = quizService.findQuizRowsAfter(cursor, size + 1);
+        Map<UUID, Set<Tag>> tagsByQuizId = findTagsByRows(rows);
+        List<QuizDTO> quizDTOs = rows.stream()
+                .map(row -> quizMapper.toDTOWithTags(row, tagsByQuizId))
+                .collect(Collectors.toList());
+        
+        return respond(CursorPageResponse.from(quizDTOs, size,
+                        quiz -> KeysetCursor.of(quiz.getCreatedAt(), quiz.getId()).encode()),
+                "Quiz récupérés avec succès", envelope);
     }
     
     /**
-     * Récupère un quiz par son ID.
+     * Récupère les quiz d'une catégorie et de toutes ses sous-catégories, avec pagination.
+     * Accepte {@code fields} et {@code envelope} comme {@link #getAllQuizzes}.
+     */
+    @GetMapping("/category/{categoryId}")
+    public ResponseEntity<?> getQuizzesInCategorySubtree(
+            @PathVariable UUID categoryId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "true") boolean envelope) {
+        
+        Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? 
+                Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+        
+        if (fields != null) {
+            return respond(findSparseQuizPage(QuizField.parse(fields), categoryId, pageable),
+                    "Quiz de la catégorie récupérés avec succès", envelope);
+        }
+        
+        Page<QuizRow> quizzesPage = quizService.findQuizzesInSubtree(categoryId, pageable);
+        Map<UUID, Set<Tag>> tagsByQuizId = findTagsByRows(quizzesPage.getContent());
+        Page<QuizDTO> quizDTOsPage = quizzesPage.map(row -> quizMapper.toDTOWithTags(row, tagsByQuizId));
+        
+        return respond(PageResponse.from(quizDTOsPage), "Quiz de la catégorie récupérés avec succès", envelope);
+    }
+    
+    /**
+     * Récupère un quiz par son ID (servi depuis le cache des quiz, GET conditionnel,
+     * voir {@link ConditionalRequests}).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<QuizDTO>> getQuizById(@PathVariable UUID id) {
-        return quizService.findQuizById(id)
-                .map(quiz -> {
-                    List<Tag> tags = tagService.findTagsByQuizId(quiz.getId());
-                    return ResponseEntity.ok(ApiResponse.success(
-                            quizMapper.toDTOWithTags(quiz, tags.stream().collect(Collectors.toSet())), 
-                            "Quiz récupéré avec succès"));
-                })
+    public ResponseEntity<ApiResponse<QuizDTO>> getQuizById(@PathVariable UUID id, ServletWebRequest request) {
+        Optional<ResourceVersion> version = quizService.findQuizVersion(id);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        
+        return quizReadService.findQuizDTOById(id)
+                .map(quizDTO -> ConditionalRequests.ok(version)
+                        .body(ApiResponse.success(quizDTO, "Quiz récupéré avec succès")))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(ApiResponse.error("Quiz non trouvé")));
     }
     
     /**
      * Recherche de quiz par critères multiples.
+     * Les comptes par facette sont joints lorsque le moteur de recherche les calcule en mémoire.
      */
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<PageResponse<QuizDTO>>> searchQuizzes(
+    public ResponseEntity<ApiResponse<FacetedPageResponse<QuizDTO>>> searchQuizzes(
             @RequestParam(required = false) String term,
             @RequestParam(required = false) UUID categoryId,
             @RequestParam(required = false) String difficultyLevel,
             @RequestParam(required = false) Boolean isPublic,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
         
         Pageable pageable = PageRequest.of(page, size);
         
-        Page<Quiz> quizzesPage = quizService.searchQuizzes(term, categoryId, difficultyLevel, isPublic, pageable);
-        Page<QuizDTO> quizDTOsPage = quizzesPage.map(quiz -> {
-            List<Tag> tags = tagService.findTagsByQuizId(quiz.getId());
-            return quizMapper.toDTOWithTags(quiz, tags.stream().collect(Collectors.toSet()));
-        });
+        QuizSearchResult<QuizRow> result = quizSearchService.indexesFilters()
+                ? quizService.searchQuizRowsWithFacets(term, categoryId, difficultyLevel, isPublic, pageable)
+                : new QuizSearchResult<>(
+                        quizService.searchQuizRows(term, categoryId, difficultyLevel, isPublic, pageable), null);
+        Map<UUID, Set<Tag>> tagsByQuizId = findTagsByRows(result.page().getContent());
+        Page<QuizDTO> quizDTOsPage = result.page().map(row -> quizMapper.toDTOWithTags(row, tagsByQuizId));
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                FacetedPageResponse.from(quizDTOsPage, result.facets()), 
+                "Recherche de quiz effectuée avec succès"));
+    }
+    
+    /**
+     * Recherche de quiz par critères multiples, accompagnée des comptes par catégorie,
+     * tag, niveau de difficulté et visibilité pour les mêmes filtres.
+     */
+    @GetMapping("/search/faceted")
+    public ResponseEntity<ApiResponse<FacetedPageResponse<QuizDTO>>> searchQuizzesFaceted(
+            @RequestParam(required = false) String term,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) String difficultyLevel,
+            @RequestParam(required = false) Boolean isPublic,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        
+        Pageable pageable = PageRequest.of(page, size);
+        
+        QuizSearchResult<QuizRow> result = quizService.searchQuizRowsWithFacets(
+                term, categoryId, difficultyLevel, isPublic, pageable);
+        Map<UUID, Set<Tag>> tagsByQuizId = findTagsByRows(result.page().getContent());
+        Page<QuizDTO> quizDTOsPage = result.page().map(row -> quizMapper.toDTOWithTags(row, tagsByQuizId));
+        
+        return ResponseEntity.ok(ApiResponse.success(FacetedPageResponse.from(quizDTOsPage, result.facets()), 
+                "Recherche de quiz effectuée avec succès"));
+    }
+    
+    /**
+     * Recherche plein texte classée par pertinence, avec extraits surlignés.
+     * Les comptes par facette sont joints lorsque le moteur de recherche les calcule en mémoire.
+     */
+    @GetMapping("/search/fulltext")
+    public ResponseEntity<ApiResponse<FacetedPageResponse<QuizSearchResultDTO>>> searchQuizzesFullText(
+            @RequestParam String term,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) String difficultyLevel,
+            @RequestParam(required = false) Boolean isPublic,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        
+        Pageable pageable = PageRequest.of(page, size);
+        
+        QuizSearchCriteria criteria = new QuizSearchCriteria(term, categoryId, difficultyLevel, isPublic);
+        QuizSearchResult<QuizSearchHit> hits = quizSearchService.indexesFilters()
+                ? quizSearchService.searchWithFacets(criteria, pageable)
+                : new QuizSearchResult<>(quizSearchService.search(criteria, pageable), null);
+        Page<QuizSearchHit> hitsPage = hits.page();
+        List<QuizRow> rows = quizService.findQuizRowsByIds(hitsPage.map(QuizSearchHit::quizId).getContent());
+        Map<UUID, Set<Tag>> tagsByQuizId = findTagsByRows(rows);
+        Map<UUID, QuizDTO> quizDTOsById = rows.stream()
+                .collect(Collectors.toMap(QuizRow::id, row -> quizMapper.toDTOWithTags(row, tagsByQuizId)));
         
-        return ResponseEntity.ok(ApiResponse.success(PageResponse.from(quizDTOsPage), 
+        Page<QuizSearchResultDTO> resultsPage = hitsPage.map(hit -> QuizSearchResultDTO.builder()
+                .quiz(quizDTOsById.get(hit.quizId()))
+                .rank(hit.rank())
+                .titleHighlight(hit.titleHighlight())
+                .descriptionHighlight(hit.descriptionHighlight())
+                .build());
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                FacetedPageResponse.from(resultsPage, hits.facets()), 
                 "Recherche de quiz effectuée avec succès"));
     }
     
     /**
-     * Récupère les quiz populaires.
+     * Exporte en flux les quiz non supprimés avec leur catégorie et leurs tags, en NDJSON ou en CSV.
+     * Les filtres sont ceux de la recherche avancée, avec un statut optionnel. La réponse
+     * est compressée en gzip lorsque le client l'accepte.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportQuizzes(
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) String difficultyLevel,
+            @RequestParam(required = false) Boolean isPublic,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        boolean gzip = acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = output -> {
+            OutputStream target = gzip ? new GZIPOutputStream(output, EXPORT_BUFFER_SIZE) : output;
+            try (SequenceWriter writer = quizExportWriter.open(target, format)) {
+                quizExportService.exportQuizzes(searchTerm, categoryId, difficultyLevel, isPublic, status,
+                        quiz -> writeExported(writer, quiz));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("quizzes." + format.extension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+    
+    /**
+     * Récupère les quiz populaires, servis depuis le cache des réponses pré-sérialisées.
      */
     @GetMapping("/popular")
-    public ResponseEntity<ApiResponse<List<QuizDTO>>> getPopularQuizzes(
+    public ResponseEntity<byte[]> getPopularQuizzes(
             @RequestParam(defaultValue = "10") int limit) {
         
-        List<Quiz> popularQuizzes = quizService.findPopularQuizzes(limit);
-        List<QuizDTO> quizDTOs = popularQuizzes.stream()
-                .map(quiz -> {
-                    List<Tag> tags = tagService.findTagsByQuizId(quiz.getId());
-                    return quizMapper.toDTOWithTags(quiz, tags.stream().collect(Collectors.toSet()));
-                })
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(ApiResponse.success(quizDTOs, 
-                "Quiz populaires récupérés avec succès"));
+        return responseCache.serve("quizzes:popular:" + limit, () -> {
+            List<Quiz> popularQuizzes = quizService.findPopularQuizzes(limit);
+            Map<UUID, Set<Tag>> tagsByQuizId = findTagsByQuizzes(popularQuizzes);
+            List<QuizDTO> quizDTOs = popularQuizzes.stream()
+                    .map(quiz -> quizMapper.toDTOWithTags(quiz, tagsByQuizId))
+                    .collect(Collectors.toList());
+            
+            return ApiResponse.success(quizDTOs, "Quiz populaires récupérés avec succès");
+        });
     }
     
     /**
@@ -273,4 +480,87 @@ public class QuizController {
                     .body(ApiResponse.error(e.getMessage()));
         }
     }
+    
+    /**
+     * Indique si {@code Accept-Encoding} accepte gzip, explicitement ou par {@code *}, avec une
+     * qualité non nulle ({@code gzip;q=0} le refuse). Une qualité illisible vaut acceptation.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            boolean accepted = true;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        accepted = Double.parseDouble(parameter.substring(2).trim()) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = true;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+    
+    /**
+     * Écrit un quiz exporté ; l'erreur d'écriture est relancée non vérifiée pour traverser le rappel.
+     */
+    private void writeExported(SequenceWriter writer, QuizExportRecord quiz) {
+        try {
+            writer.write(quiz);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * Charge en une seule requête les tags d'une liste de quiz.
+     */
+    private Map<UUID, Set<Tag>> findTagsByQuizzes(List<Quiz> quizzes) {
+        return tagService.findTagsByQuizIds(quizzes.stream()
+                .map(Quiz::getId)
+                .collect(Collectors.toList()));
+    }
+    
+    /**
+     * Charge une page de quiz réduite aux champs demandés ; les tags ne sont lus que s'ils en font partie.
+     */
+    private PageResponse<Map<String, Object>> findSparseQuizPage(Set<QuizField> fields, UUID categoryId,
+            Pageable pageable) {
+        Page<Tuple> tuples = quizService.findSparseQuizRows(fields, categoryId, pageable);
+        Map<UUID, Set<Tag>> tagsByQuizId = fields.contains(QuizField.TAGS)
+                ? tagService.findTagsByQuizIds(tuples.getContent().stream()
+                        .map(tuple -> tuple.get(QuizField.ID.fieldName(), UUID.class))
+                        .collect(Collectors.toList()))
+                : Map.of();
+        return PageResponse.from(tuples.map(tuple -> quizMapper.toFieldMap(tuple, fields, tagsByQuizId)));
+    }
+    
+    /**
+     * Enveloppe le corps dans une {@link ApiResponse}, sauf si le client l'a refusée ({@code envelope=false}).
+     */
+    private static ResponseEntity<?> respond(Object body, String message, boolean envelope) {
+        return ResponseEntity.ok(envelope ? ApiResponse.success(body, message) : body);
+    }
+    
+    /**
+     * Charge en une seule requête les tags d'une liste de projections de quiz.
+     */
+    private Map<UUID, Set<Tag>> findTagsByRows(List<QuizRow> rows) {
+        return tagService.findTagsByQuizIds(rows.stream()
+                .map(QuizRow::id)
+                .collect(Collectors.toList()));
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package fr.hachim.quizapi.core.controller;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -15,13 +16,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import fr.hachim.quizapi.core.cache.ResponseCache;
 import fr.hachim.quizapi.core.dto.ApiResponse;
 import fr.hachim.quizapi.core.dto.TagDTO;
 import fr.hachim.quizapi.core.mapper.TagMapper;
 import fr.hachim.quizapi.core.model.Tag;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
 import fr.hachim.quizapi.core.service.TagService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -34,28 +39,35 @@ public class TagController {
 
     private final TagService tagService;
     private final TagMapper tagMapper;
+    private final ResponseCache responseCache;
     
     /**
-     * Récupère tous les tags.
+     * Récupère tous les tags, servis depuis le cache des réponses pré-sérialisées.
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<TagDTO>>> getAllTags() {
-        List<Tag> tags = tagService.findAllTags();
-        List<TagDTO> tagDTOs = tags.stream()
-                .map(tagMapper::toDTO)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(ApiResponse.success(tagDTOs, 
-                "Tags récupérés avec succès"));
+    public ResponseEntity<byte[]> getAllTags() {
+        return responseCache.serve("tags", () -> {
+            List<Tag> tags = tagService.findAllTags();
+            List<TagDTO> tagDTOs = tags.stream()
+                    .map(tag -> tagMapper.toDTOWithQuizCount(tag, tag.getQuizCount()))
+                    .collect(Collectors.toList());
+            
+            return ApiResponse.success(tagDTOs, "Tags récupérés avec succès");
+        });
     }
     
     /**
-     * Récupère un tag par son ID.
+     * Récupère un tag par son ID (GET conditionnel, voir {@link ConditionalRequests}).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<TagDTO>> getTagById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<TagDTO>> getTagById(@PathVariable UUID id, ServletWebRequest request) {
+        Optional<ResourceVersion> version = tagService.findTagVersion(id);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        
         return tagService.findTagById(id)
-                .map(tag -> ResponseEntity.ok(ApiResponse.success(
+                .map(tag -> ConditionalRequests.ok(version).body(ApiResponse.success(
                         tagMapper.toDTO(tag), 
                         "Tag récupéré avec succès")))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -63,19 +75,20 @@ public class TagController {
     }
     
     /**
-     * Récupère les tags populaires.
+     * Récupère les tags populaires, servis depuis le cache des réponses pré-sérialisées.
      */
     @GetMapping("/popular")
-    public ResponseEntity<ApiResponse<List<TagDTO>>> getPopularTags(
+    public ResponseEntity<byte[]> getPopularTags(
             @RequestParam(defaultValue = "10") int limit) {
         
-        List<Tag> popularTags = tagService.findPopularTags(limit);
-        List<TagDTO> tagDTOs = popularTags.stream()
-                .map(tagMapper::toDTO)
-                .collect(Collectors.toList());
-        
-        return ResponseEntity.ok(ApiResponse.success(tagDTOs, 
-                "Tags populaires récupérés avec succès"));
+        return responseCache.serve("tags:popular:" + limit, () -> {
+            List<Tag> popularTags = tagService.findPopularTags(limit);
+            List<TagDTO> tagDTOs = popularTags.stream()
+                    .map(tag -> tagMapper.toDTOWithQuizCount(tag, tag.getQuizCount()))
+                    .collect(Collectors.toList());
+            
+            return ApiResponse.success(tagDTOs, "Tags populaires récupérés avec succès");
+        });
     }
     
     /**
@@ -105,6 +118,24 @@ public class TagController {
                         "Tag créé avec succès"));
     }
     
+    /**
+     * Crée plusieurs tags en une seule transaction, par batchs JDBC.
+     * Le lot est rejeté entièrement si un nom est en double ou déjà pris.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<TagDTO>>> createTags(
+            @RequestBody @Size(min = 1, max = 1000) List<@Valid TagDTO> tagDTOs) {
+        List<Tag> savedTags = tagService.createTags(tagDTOs.stream()
+                .map(tagMapper::toEntity)
+                .collect(Collectors.toList()));
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(savedTags.stream()
+                        .map(tagMapper::toDTO)
+                        .collect(Collectors.toList()), 
+                        "Tags créés avec succès"));
+    }
+    
     /**
      * Met à jour un tag existant.
      */
@@ -1,6 +1,7 @@
 package fr.hachim.quizapi.core.controller;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -19,15 +20,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import fr.hachim.quizapi.core.dto.ApiResponse;
+import fr.hachim.quizapi.core.dto.CursorPageResponse;
 import fr.hachim.quizapi.core.dto.PageResponse;
 import fr.hachim.quizapi.core.dto.UserCreationDTO;
 import fr.hachim.quizapi.core.dto.UserDTO;
 import fr.hachim.quizapi.core.mapper.UserMapper;
 import fr.hachim.quizapi.core.model.User;
+import fr.hachim.quizapi.core.pagination.KeysetCursor;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
 import fr.hachim.quizapi.core.service.UserService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -47,7 +55,7 @@ public class UserController {
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<UserDTO>>> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(defaultValue = "username") String sortBy,
             @RequestParam(defaultValue = "asc") String direction) {
         
@@ -63,12 +71,38 @@ public class UserController {
     }
     
     /**
-     * Récupère un utilisateur par son ID.
+     * Récupère les utilisateurs par curseur (pagination keyset), par nom d'utilisateur.
+     * Activé par la présence du paramètre {@code after} : une valeur vide demande la
+     * première page, puis chaque réponse fournit le curseur de la page suivante.
+     */
+    @GetMapping(params = "after")
+    public ResponseEntity<ApiResponse<CursorPageResponse<UserDTO>>> getUsersByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        
+        KeysetCursor cursor = after.isBlank() ? null : KeysetCursor.decode(after);
+        List<UserDTO> userDTOs = userService.findUsersAfter(cursor, size + 1).stream()
+                .map(userMapper::toDTO)
+                .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(ApiResponse.success(
+                CursorPageResponse.from(userDTOs, size,
+                        user -> KeysetCursor.of(user.getUsername(), user.getId()).encode()),
+                "Utilisateurs récupérés avec succès"));
+    }
+    
+    /**
+     * Récupère un utilisateur par son ID (GET conditionnel, voir {@link ConditionalRequests}).
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<UserDTO>> getUserById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<UserDTO>> getUserById(@PathVariable UUID id, ServletWebRequest request) {
+        Optional<ResourceVersion> version = userService.findUserVersion(id);
+        if (ConditionalRequests.notModified(request, version)) {
+            return null;
+        }
+        
         return userService.findUserById(id)
-                .map(user -> ResponseEntity.ok(ApiResponse.success(
+                .map(user -> ConditionalRequests.ok(version).body(ApiResponse.success(
                         userMapper.toDTO(user), 
                         "Utilisateur récupéré avec succès")))
                 .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -105,6 +139,24 @@ public class UserController {
                         "Utilisateur créé avec succès"));
     }
     
+    /**
+     * Crée plusieurs utilisateurs en une seule transaction, par batchs JDBC.
+     * Le lot est rejeté entièrement si un nom d'utilisateur ou un email est en double ou déjà pris.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<UserDTO>>> createUsers(
+            @RequestBody @Size(min = 1, max = 100) List<@Valid UserCreationDTO> userDTOs) {
+        List<User> savedUsers = userService.createUsers(userDTOs.stream()
+                .map(userMapper::toEntity)
+                .collect(Collectors.toList()));
+        
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(savedUsers.stream()
+                        .map(userMapper::toDTO)
+                        .collect(Collectors.toList()), 
+                        "Utilisateurs créés avec succès"));
+    }
+    
     /**
      * Met à jour un utilisateur existant.
      */
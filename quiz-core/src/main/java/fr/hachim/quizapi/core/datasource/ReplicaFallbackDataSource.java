@@ -0,0 +1,53 @@
+package fr.hachim.quizapi.core.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * DataSource des transactions en lecture seule : emprunte au réplica tant que
+ * {@link ReplicaLagMonitor} le juge à jour, sinon au primaire.
+ * 
+ * Un échec de connexion au réplica écarte celui-ci jusqu'à la mesure suivante
+ * et la lecture est servie par le primaire plutôt que de faillir.
+ */
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaFallbackDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+            ReplicaLagMonitor lagMonitor) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (lagMonitor.isReplicaUsable()) {
+            try {
+                Connection connection = replicaDataSource.getConnection();
+                lagMonitor.recordRead(true);
+                return connection;
+            } catch (SQLException e) {
+                lagMonitor.markUnavailable(e);
+            }
+        }
+        lagMonitor.recordRead(false);
+        return primaryDataSource.getConnection();
+    }
+
+    /**
+     * Les identifiants explicites ne valent que pour le primaire : la lecture y est servie directement.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        lagMonitor.recordRead(false);
+        return primaryDataSource.getConnection(username, password);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,219 @@
+package fr.hachim.quizapi.core.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Surveille le retard de réplication du réplica en lecture.
+ * 
+ * Le retard est mesuré à partir de la position de rejeu du WAL du réplica, comparée aux
+ * positions du WAL du primaire relevées à chaque mesure : en octets, la distance à la position
+ * courante du primaire ; en temps, l'âge de la plus ancienne position relevée que le réplica
+ * n'a pas encore rejouée. Un primaire inactif ne fait donc pas croître le retard, et un primaire
+ * très actif ne le fait pas non plus tant que le réplica suit. Un réplica dont le récepteur WAL
+ * ne diffuse plus est écarté.
+ * Le réplica n'est utilisé que si la dernière mesure a réussi et reste sous les deux retards
+ * tolérés ; sinon les lectures retombent sur le primaire jusqu'à la mesure suivante. Le retard
+ * mesuré et la répartition des lectures entre les deux pools sont exposés à Micrometer.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    /** Position courante du WAL sur le primaire, en octets depuis l'origine du WAL. */
+    static final String PRIMARY_LSN_SQL = "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')";
+
+    /**
+     * État du réplica :
+     * <ul>
+     * <li>{@code false} en première colonne si la base n'est pas en récupération (instance
+     * indépendante, sans retard) ;</li>
+     * <li>sinon la position de rejeu du WAL en octets, {@code NULL} (réplica écarté) si aucun
+     * récepteur WAL n'est en streaming : un réplica déconnecté rejoue tout ce qu'il a reçu puis
+     * s'arrête.</li>
+     * </ul>
+     * Le statut du récepteur n'est visible qu'avec {@code pg_read_all_stats} ; sans ce droit, seule
+     * sa présence est vérifiée et la comparaison au primaire détecte l'arrêt du rejeu.
+     */
+    static final String REPLAY_LSN_SQL = "SELECT pg_is_in_recovery(), CASE " +
+            "WHEN EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status IS NULL OR status = 'streaming') " +
+            "THEN pg_wal_lsn_diff(pg_last_wal_replay_lsn(), '0/0') END";
+
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    /**
+     * Positions du primaire conservées au plus en attente de rejeu : au-delà, la plus ancienne
+     * suffit à montrer que le retard dépasse la tolérance.
+     */
+    private static final int MAX_PENDING_POSITIONS = 64;
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final double maxLagSeconds;
+    private final long maxLagBytes;
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryReads = new AtomicLong();
+    /** Positions du primaire (octets, instant en nanosecondes) pas encore rejouées, par ordre croissant. */
+    private final Deque<long[]> pendingPositions = new ArrayDeque<>();
+    private volatile boolean replicaUsable;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile double lagBytes = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, Duration maxLag,
+            DataSize maxLagBytes) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.maxLagBytes = maxLagBytes.toBytes();
+    }
+
+    /**
+     * Mesure le retard du réplica et met à jour son éligibilité.
+     * Les mesures étant planifiées à délai fixe, elles ne se chevauchent pas.
+     */
+    @Scheduled(fixedDelayString = "${quizapi.datasource.routing.lag-check-interval}")
+    public void check() {
+        double lag = Double.NaN;
+        double bytes = Double.NaN;
+        try {
+            long primaryLsn = readPrimaryLsn();
+            long readAt = System.nanoTime();
+            try (Connection connection = replicaDataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+                try (ResultSet resultSet = statement.executeQuery(REPLAY_LSN_SQL)) {
+                    resultSet.next();
+                    if (!resultSet.getBoolean(1)) {
+                        pendingPositions.clear();
+                        lag = 0;
+                        bytes = 0;
+                    } else {
+                        recordPrimaryPosition(primaryLsn, readAt);
+                        long replayLsn = resultSet.getLong(2);
+                        if (!resultSet.wasNull()) {
+                            lag = replayLagSeconds(replayLsn);
+                            bytes = Math.max(0, primaryLsn - replayLsn);
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("Mesure du retard du réplica impossible", e);
+        }
+        
+        lagSeconds = lag;
+        lagBytes = bytes;
+        boolean usable = !Double.isNaN(lag) && lag <= maxLagSeconds && bytes <= maxLagBytes;
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Réplica en lecture disponible (retard {} s, {} octets), lectures routées vers le réplica",
+                        lag, bytes);
+            } else {
+                log.warn("Réplica en lecture indisponible ou en retard ({} s, {} octets ; tolérance {} s, "
+                        + "{} octets), lectures routées vers le primaire", lag, bytes, maxLagSeconds, maxLagBytes);
+            }
+        }
+        replicaUsable = usable;
+    }
+
+    /**
+     * Note la position du primaire si elle a avancé depuis la précédente. Une position inférieure
+     * (primaire remplacé) invalide les précédentes.
+     */
+    private void recordPrimaryPosition(long primaryLsn, long readAt) {
+        long[] newest = pendingPositions.peekLast();
+        if (newest != null && primaryLsn < newest[0]) {
+            pendingPositions.clear();
+            newest = null;
+        }
+        if ((newest == null || primaryLsn > newest[0]) && pendingPositions.size() < MAX_PENDING_POSITIONS) {
+            pendingPositions.addLast(new long[] { primaryLsn, readAt });
+        }
+    }
+
+    /**
+     * Oublie les positions rejouées ; le retard est l'âge de la plus ancienne restante, depuis
+     * laquelle le réplica est en retard, ou nul s'il a tout rejoué.
+     */
+    private double replayLagSeconds(long replayLsn) {
+        while (!pendingPositions.isEmpty() && pendingPositions.peekFirst()[0] <= replayLsn) {
+            pendingPositions.removeFirst();
+        }
+        long[] oldest = pendingPositions.peekFirst();
+        return oldest == null ? 0 : (System.nanoTime() - oldest[1]) / 1_000_000_000.0;
+    }
+
+    private long readPrimaryLsn() throws SQLException {
+        try (Connection connection = primaryDataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(PRIMARY_LSN_SQL)) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * @return true si les lectures peuvent être servies par le réplica
+     */
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Écarte le réplica jusqu'à la prochaine mesure réussie, après un échec de connexion.
+     */
+    public void markUnavailable(SQLException cause) {
+        if (replicaUsable) {
+            log.warn("Connexion au réplica en échec, lectures routées vers le primaire", cause);
+        }
+        replicaUsable = false;
+    }
+
+    /**
+     * Comptabilise une lecture servie par le réplica ou, à défaut, par le primaire.
+     */
+    public void recordRead(boolean onReplica) {
+        (onReplica ? replicaReads : primaryReads).incrementAndGet();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("quizapi.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Retard de réplication mesuré sur le réplica en lecture")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("quizapi.datasource.replica.lag.bytes", this, monitor -> monitor.lagBytes)
+                .description("WAL du primaire pas encore rejoué par le réplica en lecture")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("quizapi.datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .description("1 si les lectures sont routées vers le réplica")
+                .register(registry);
+        FunctionCounter.builder("quizapi.datasource.reads", replicaReads, AtomicLong::get)
+                .description("Connexions de transactions en lecture seule, par pool")
+                .tag("pool", "replica")
+                .register(registry);
+        FunctionCounter.builder("quizapi.datasource.reads", primaryReads, AtomicLong::get)
+                .description("Connexions de transactions en lecture seule, par pool")
+                .tag("pool", "primary")
+                .register(registry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package fr.hachim.quizapi.core.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO représentant un nœud de l'arbre des catégories avec ses sous-catégories.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryTreeNodeDTO {
+    
+    private UUID id;
+    
+    private String name;
+    
+    private String description;
+    
+    private UUID parentId;
+    
+    private int depth;
+    
+    private List<CategoryTreeNodeDTO> children;
+}
\ No newline at end of file
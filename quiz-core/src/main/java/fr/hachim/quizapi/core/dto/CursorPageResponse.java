@@ -0,0 +1,48 @@
+package fr.hachim.quizapi.core.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO pour la pagination par curseur (keyset).
+ * Contrairement à {@link PageResponse}, aucun nombre total d'éléments n'est calculé.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+    
+    /**
+     * Crée un objet CursorPageResponse à partir d'une fenêtre lue avec une ligne
+     * d'avance ({@code size + 1} éléments au plus) : la ligne surnuméraire indique
+     * qu'une page suivante existe et n'est pas retournée.
+     * 
+     * @param <T> Type des éléments de la page
+     * @param fetched Les éléments lus (au plus size + 1)
+     * @param size Taille de page demandée
+     * @param cursorOf Fonction calculant le curseur d'un élément
+     * @return Objet CursorPageResponse
+     */
+    public static <T> CursorPageResponse<T> from(List<T> fetched, int size, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package fr.hachim.quizapi.core.dto;
+
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO pour une page de résultats de recherche accompagnée des comptes par facette.
+ * Les champs de pagination sont sérialisés au même niveau que les facettes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedPageResponse<T> {
+    
+    @JsonUnwrapped
+    private PageResponse<T> page;
+    
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, Map<String, Long>> facets;
+    
+    /**
+     * Crée un objet FacetedPageResponse à partir d'un objet Page de Spring Data.
+     * 
+     * @param <T> Type des éléments de la page
+     * @param page L'objet Page à convertir
+     * @param facets Comptes par facette puis par valeur (optionnel)
+     * @return Objet FacetedPageResponse
+     */
+    public static <T> FacetedPageResponse<T> from(Page<T> page, Map<String, Map<String, Long>> facets) {
+        return FacetedPageResponse.<T>builder()
+                .page(PageResponse.from(page))
+                .facets(facets)
+                .build();
+    }
+}
\ No newline at end of file
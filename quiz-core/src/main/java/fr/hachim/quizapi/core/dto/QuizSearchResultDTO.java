@@ -0,0 +1,28 @@
+package fr.hachim.quizapi.core.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO pour un résultat de recherche plein texte : le quiz, son score de pertinence
+ * et les extraits surlignés.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class QuizSearchResultDTO {
+    
+    private QuizDTO quiz;
+    
+    private Double rank;
+    
+    private String titleHighlight; // Titre avec les termes trouvés encadrés de <mark>
+    
+    private String descriptionHighlight; // Extraits de la description avec les termes trouvés
+}
@@ -0,0 +1,173 @@
+package fr.hachim.quizapi.core.event;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bus d'invalidation entre instances s'appuyant sur LISTEN/NOTIFY de PostgreSQL.
+ * 
+ * Chaque événement local est diffusé par {@code pg_notify} ; un thread par instance écoute
+ * le canal et republie localement les événements des autres instances, marqués {@code remote}
+ * pour ne pas être rediffusés. Les écouteurs existants (caches, index de recherche) les traitent
+ * donc comme des modifications locales.
+ * L'écoute garde une connexion ouverte en permanence : elle est ouverte directement sur le primaire
+ * ({@code spring.datasource.*}), hors du pool, pour ne pas lui retirer une connexion.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "quizapi.cluster.invalidation", name = "enabled", havingValue = "true")
+public class ClusterInvalidationBus {
+
+    private static final int POLL_TIMEOUT_MS = 1000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final DataSource listenerDataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public ClusterInvalidationBus(DataSourceProperties dataSourceProperties, JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher, CacheManager cacheManager,
+            @Value("${quizapi.cluster.invalidation.channel}") String channel) {
+        this.listenerDataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.channel = channel;
+    }
+
+    /**
+     * Diffuse une modification locale aux autres instances.
+     * La notification est émise dans la transaction d'écriture : PostgreSQL ne la délivre
+     * qu'à la validation et l'abandonne en cas d'annulation.
+     * 
+     * @param event L'événement de modification
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (event.remote()) {
+            return;
+        }
+        String payload = nodeId + ":" + event.entityType() + ":" + event.entityId();
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, payload);
+    }
+
+    /**
+     * Démarre le thread d'écoute une fois l'application prête.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform()
+                .name("cluster-invalidation-listener")
+                .daemon()
+                .start(this::listen);
+    }
+
+    /**
+     * Arrête le thread d'écoute.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    /**
+     * Boucle d'écoute : maintient une connexion dédiée, hors pool, abonnée au canal et se reconnecte
+     * après une erreur. Les notifications perdues pendant une coupure ne pouvant être
+     * rejouées, les caches locaux sont vidés à chaque reconnexion.
+     */
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = listenerDataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (reconnecting) {
+                    clearLocalCaches();
+                }
+                log.info("Écoute du canal d'invalidation '{}' (instance {})", channel, nodeId);
+                
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Connexion au canal d'invalidation perdue, nouvelle tentative dans {} ms", RECONNECT_DELAY_MS, e);
+                reconnecting = true;
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Republie localement une notification émise par une autre instance.
+     */
+    private void dispatch(String payload) {
+        String[] parts = payload.split(":", 3);
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        try {
+            EntityChangedEvent.EntityType entityType = EntityChangedEvent.EntityType.valueOf(parts[1]);
+            eventPublisher.publishEvent(new EntityChangedEvent(entityType, parts[2], true));
+        } catch (RuntimeException e) {
+            log.warn("Notification d'invalidation ignorée : {}", payload, e);
+        }
+    }
+
+    private void clearLocalCaches() {
+        cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::clear);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package fr.hachim.quizapi.core.event;
+
+import java.util.UUID;
+
+/**
+ * Événement publié par la couche service lorsqu'une entité est créée, modifiée ou supprimée.
+ * Les écouteurs qui maintiennent des données dérivées (index, caches) l'observent
+ * après la validation de la transaction pour ne jamais refléter une écriture annulée.
+ * 
+ * @param entityType Type de l'entité modifiée
+ * @param entityId Identifiant de l'entité modifiée
+ * @param remote true si la modification a été faite par une autre instance et reçue par le bus d'invalidation
+ */
+public record EntityChangedEvent(EntityType entityType, String entityId, boolean remote) {
+
+    /**
+     * Types d'entités dont les modifications sont publiées.
+     */
+    public enum EntityType {
+        QUIZ,
+        QUIZ_BATCH,
+        CATEGORY,
+        TAG,
+        PLUGIN
+    }
+
+    /**
+     * Crée un événement local (modification faite par cette instance).
+     * 
+     * @param entityType Type de l'entité modifiée
+     * @param entityId Identifiant de l'entité modifiée
+     */
+    public EntityChangedEvent(EntityType entityType, String entityId) {
+        this(entityType, entityId, false);
+    }
+
+    /**
+     * Crée un événement de modification de quiz.
+     * 
+     * @param quizId ID du quiz modifié
+     * @return L'événement correspondant
+     */
+    public static EntityChangedEvent quiz(UUID quizId) {
+        return new EntityChangedEvent(EntityType.QUIZ, quizId.toString());
+    }
+
+    /**
+     * Crée un événement de modification en masse de quiz (import).
+     * Trop de quiz sont concernés pour les traiter un par un : les écouteurs
+     * reconstruisent entièrement leurs données dérivées.
+     * 
+     * @param batchId Identifiant du lot (import)
+     * @return L'événement correspondant
+     */
+    public static EntityChangedEvent quizBatch(UUID batchId) {
+        return new EntityChangedEvent(EntityType.QUIZ_BATCH, batchId.toString());
+    }
+
+    /**
+     * Crée un événement de modification de catégorie.
+     * 
+     * @param categoryId ID de la catégorie modifiée
+     * @return L'événement correspondant
+     */
+    public static EntityChangedEvent category(UUID categoryId) {
+        return new EntityChangedEvent(EntityType.CATEGORY, categoryId.toString());
+    }
+
+    /**
+     * Crée un événement de modification de tag.
+     * 
+     * @param tagId ID du tag modifié
+     * @return L'événement correspondant
+     */
+    public static EntityChangedEvent tag(UUID tagId) {
+        return new EntityChangedEvent(EntityType.TAG, tagId.toString());
+    }
+
+    /**
+     * Crée un événement de modification de plugin.
+     * 
+     * @param pluginId ID du plugin modifié
+     * @return L'événement correspondant
+     */
+    public static EntityChangedEvent plugin(String pluginId) {
+        return new EntityChangedEvent(EntityType.PLUGIN, pluginId);
+    }
+
+    /**
+     * Retourne l'identifiant de l'entité sous forme d'UUID.
+     * 
+     * @return L'UUID de l'entité
+     */
+    public UUID entityUuid() {
+        return UUID.fromString(entityId);
+    }
+}
\ No newline at end of file
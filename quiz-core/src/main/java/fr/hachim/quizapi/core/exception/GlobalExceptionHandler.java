@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -14,11 +16,13 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import fr.hachim.quizapi.core.dto.ErrorResponse;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * Gestionnaire global des exceptions pour l'API.
@@ -63,6 +67,30 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
     
+    /**
+     * Gère le refus d'un traitement asynchrone, lorsque leur nombre maximal est atteint.
+     * Les en-têtes déjà posés pour la réponse en flux refusée (type, pièce jointe, compression)
+     * sont retirés : ils ne décrivent pas la réponse d'erreur.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(
+            TaskRejectedException ex, HttpServletRequest request, HttpServletResponse response) {
+        
+        if (!response.isCommitted()) {
+            response.reset();
+        }
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status("error")
+                .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message("Service momentanément surchargé, réessayez plus tard")
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    
     /**
      * Gère les exceptions de validation des entrées.
      */
@@ -98,6 +126,34 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(ex, errorResponse, headers, status, request);
     }
     
+    /**
+     * Gère les exceptions de validation des paramètres de requête (taille de page, etc.).
+     */
+    @Override
+    protected ResponseEntity<Object> handleHandlerMethodValidationException(
+            HandlerMethodValidationException ex, 
+            HttpHeaders headers, 
+            HttpStatusCode status, 
+            WebRequest request) {
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status("error")
+                .statusCode(status.value())
+                .message("Erreur de validation")
+                .path(request.getContextPath())
+                .timestamp(LocalDateTime.now())
+                .build();
+        
+        ex.getParameterValidationResults().forEach(result -> {
+            for (MessageSourceResolvable error : result.getResolvableErrors()) {
+                errorResponse.addValidationError(result.getMethodParameter().getParameterName(),
+                        error.getDefaultMessage());
+            }
+        });
+        
+        return handleExceptionInternal(ex, errorResponse, headers, status, request);
+    }
+    
     /**
      * Gère toutes les autres exceptions non spécifiquement traitées.
      */
@@ -0,0 +1,39 @@
+package fr.hachim.quizapi.core.exporter;
+
+/**
+ * Formats proposés par l'export de quiz.
+ */
+public enum ExportFormat {
+
+    /**
+     * Un objet JSON par ligne (application/x-ndjson).
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * CSV avec ligne d'en-tête, tags séparés par des points-virgules (text/csv).
+     */
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * @return Le type MIME du format
+     */
+    public String mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return L'extension de fichier du format
+     */
+    public String extension() {
+        return extension;
+    }
+}
\ No newline at end of file
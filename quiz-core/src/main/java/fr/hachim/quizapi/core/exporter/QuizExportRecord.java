@@ -0,0 +1,32 @@
+package fr.hachim.quizapi.core.exporter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Quiz tel qu'écrit dans un export. Les colonnes reprennent celles de l'import
+ * (catégorie et tags désignés par leur nom), un export pouvant être réimporté tel quel.
+ * 
+ * @param id ID du quiz
+ * @param title Titre
+ * @param description Description
+ * @param difficultyLevel Niveau de difficulté
+ * @param timeLimit Durée limite en secondes
+ * @param passingScore Score minimum pour réussir (pourcentage)
+ * @param status Statut
+ * @param isPublic Visibilité
+ * @param categoryId ID de la catégorie
+ * @param category Nom de la catégorie
+ * @param tags Noms des tags
+ * @param createdAt Date de création
+ */
+@JsonPropertyOrder({ "id", "title", "description", "difficultyLevel", "timeLimit", "passingScore",
+        "status", "isPublic", "categoryId", "category", "tags", "createdAt" })
+public record QuizExportRecord(UUID id, String title, String description, String difficultyLevel,
+        Integer timeLimit, BigDecimal passingScore, String status, Boolean isPublic,
+        UUID categoryId, String category, List<String> tags, LocalDateTime createdAt) {
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package fr.hachim.quizapi.core.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Écriture incrémentale des exports : chaque quiz est encodé et envoyé dès qu'il est reçu.
+ */
+@Component
+public class QuizExportWriter {
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final CsvSchema csvSchema = csvMapper.schemaFor(QuizExportRecord.class)
+            .withHeader()
+            .withArrayElementSeparator(";");
+
+    public QuizExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Ouvre un écrivain de quiz sur le flux.
+     * 
+     * @param output Le flux de sortie, fermé avec l'écrivain
+     * @param format Le format d'écriture
+     * @return Écrivain séquentiel, à fermer après usage
+     * @throws IOException si l'en-tête ne peut être écrit
+     */
+    public SequenceWriter open(OutputStream output, ExportFormat format) throws IOException {
+        return switch (format) {
+            case NDJSON -> objectMapper.writerFor(QuizExportRecord.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(output);
+            case CSV -> csvMapper.writerFor(QuizExportRecord.class)
+                    .with(csvSchema)
+                    .writeValues(output);
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package fr.hachim.quizapi.core.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Identifiant UUID généré par {@link UuidV7Generator} (UUID version 7, ordonné dans le temps).
+ * Remplace {@code @GeneratedValue(strategy = GenerationType.UUID)}, qui produit des UUID version 4.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface GeneratedUuidV7 {
+}
\ No newline at end of file
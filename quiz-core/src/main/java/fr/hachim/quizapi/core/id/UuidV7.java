@@ -0,0 +1,66 @@
+package fr.hachim.quizapi.core.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Générateur d'UUID version 7 (RFC 9562) : 48 bits d'horodatage Unix en millisecondes,
+ * suivis d'un compteur de 12 bits et de 62 bits aléatoires.
+ * 
+ * Les valeurs produites par une instance sont strictement croissantes, même à la milliseconde
+ * près ou si l'horloge recule : les insertions se font en fin d'index B-tree au lieu de
+ * pages aléatoires comme avec les UUID version 4.
+ */
+public final class UuidV7 {
+
+    private static final int MAX_COUNTER = 0xFFF;
+    private static final int COUNTER_SEED_BOUND = 0x800;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Object LOCK = new Object();
+
+    private static long lastTimestamp;
+    private static int counter;
+
+    private UuidV7() {
+    }
+
+    /**
+     * Génère un nouvel UUID version 7.
+     * 
+     * @return Un UUID supérieur à tous ceux générés précédemment par cette JVM
+     */
+    public static UUID next() {
+        long timestamp;
+        int sequence;
+        synchronized (LOCK) {
+            long now = System.currentTimeMillis();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                // Départ aléatoire dans la moitié basse pour laisser de la marge au compteur
+                counter = RANDOM.nextInt(COUNTER_SEED_BOUND);
+            } else if (++counter > MAX_COUNTER) {
+                // Compteur épuisé dans la milliseconde (ou horloge reculée) : on emprunte la suivante
+                lastTimestamp++;
+                counter = 0;
+            }
+            timestamp = lastTimestamp;
+            sequence = counter;
+        }
+        long mostSigBits = (timestamp << 16) | (0x7L << 12) | sequence;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Extrait l'horodatage d'un UUID version 7.
+     * 
+     * @param uuid L'UUID version 7
+     * @return L'horodatage Unix en millisecondes
+     */
+    public static long timestamp(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUID de version " + uuid.version() + " : " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package fr.hachim.quizapi.core.id;
+
+import java.util.EnumSet;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+/**
+ * Générateur Hibernate des identifiants annotés par {@link GeneratedUuidV7}.
+ * L'identifiant est attribué en mémoire avant l'INSERT, ce qui préserve le batching JDBC.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        return UuidV7.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+}
\ No newline at end of file
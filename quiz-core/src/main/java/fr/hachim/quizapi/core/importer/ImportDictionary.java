@@ -0,0 +1,78 @@
+package fr.hachim.quizapi.core.importer;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import fr.hachim.quizapi.core.model.Category;
+import fr.hachim.quizapi.core.model.Tag;
+
+/**
+ * Dictionnaire en mémoire des noms de catégories et de tags, construit une fois par import.
+ * Les noms sont comparés sans tenir compte de la casse.
+ */
+public class ImportDictionary {
+
+    private final Map<String, UUID> categoryIds = new HashMap<>();
+    private final Set<String> ambiguousCategories = new HashSet<>();
+    private final Map<String, String> tagNames = new HashMap<>();
+
+    /**
+     * Construit le dictionnaire à partir des catégories et tags non supprimés.
+     * 
+     * @param categories Les catégories existantes
+     * @param tags Les tags existants
+     */
+    public ImportDictionary(List<Category> categories, List<Tag> tags) {
+        for (Category category : categories) {
+            String key = key(category.getName());
+            if (categoryIds.putIfAbsent(key, category.getId()) != null) {
+                ambiguousCategories.add(key);
+            }
+        }
+        for (Tag tag : tags) {
+            tagNames.put(key(tag.getName()), tag.getName());
+        }
+    }
+
+    /**
+     * Indique si plusieurs catégories portent ce nom (dans des branches différentes).
+     * 
+     * @param name Nom de la catégorie
+     * @return true si le nom est ambigu
+     */
+    public boolean isAmbiguousCategory(String name) {
+        return ambiguousCategories.contains(key(name));
+    }
+
+    /**
+     * Résout le nom d'une catégorie.
+     * 
+     * @param name Nom de la catégorie
+     * @return L'ID de la catégorie, ou null si elle n'existe pas
+     */
+    public UUID categoryId(String name) {
+        return categoryIds.get(key(name));
+    }
+
+    /**
+     * Résout le nom d'un tag vers son orthographe de référence.
+     * Un tag inconnu est enregistré avec l'orthographe de sa première occurrence,
+     * que reprendront les occurrences suivantes.
+     * 
+     * @param name Nom du tag
+     * @return Le nom du tag existant ou à créer
+     */
+    public String tagName(String name) {
+        String trimmed = name.strip();
+        return tagNames.computeIfAbsent(key(trimmed), key -> trimmed);
+    }
+
+    private static String key(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+}
\ No newline at end of file
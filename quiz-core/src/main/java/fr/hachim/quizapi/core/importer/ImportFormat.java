@@ -0,0 +1,17 @@
+package fr.hachim.quizapi.core.importer;
+
+/**
+ * Formats acceptés par l'import de quiz.
+ */
+public enum ImportFormat {
+
+    /**
+     * Un objet JSON par ligne (application/x-ndjson).
+     */
+    NDJSON,
+
+    /**
+     * CSV avec ligne d'en-tête, tags séparés par des points-virgules (text/csv).
+     */
+    CSV
+}
\ No newline at end of file
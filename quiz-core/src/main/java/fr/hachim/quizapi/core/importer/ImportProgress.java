@@ -0,0 +1,68 @@
+package fr.hachim.quizapi.core.importer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Avancement d'un import, émis au fil de la lecture puis à la fin du traitement.
+ * 
+ * @param phase Phase en cours
+ * @param rowsRead Nombre d'enregistrements lus
+ * @param rowsRejected Nombre d'enregistrements rejetés
+ * @param report Bilan de l'import (phase COMPLETED uniquement)
+ * @param message Message d'erreur (phase FAILED uniquement)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportProgress(Phase phase, long rowsRead, long rowsRejected, ImportReport report, String message) {
+
+    /**
+     * Phases d'un import.
+     */
+    public enum Phase {
+        PARSING,
+        MERGING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * Crée un point d'avancement pendant la lecture.
+     * 
+     * @param rowsRead Nombre d'enregistrements lus
+     * @param rowsRejected Nombre d'enregistrements rejetés
+     * @return L'avancement correspondant
+     */
+    public static ImportProgress parsing(long rowsRead, long rowsRejected) {
+        return new ImportProgress(Phase.PARSING, rowsRead, rowsRejected, null, null);
+    }
+
+    /**
+     * Crée le point d'avancement marquant le début de la fusion.
+     * 
+     * @param rowsRead Nombre d'enregistrements lus
+     * @param rowsRejected Nombre d'enregistrements rejetés
+     * @return L'avancement correspondant
+     */
+    public static ImportProgress merging(long rowsRead, long rowsRejected) {
+        return new ImportProgress(Phase.MERGING, rowsRead, rowsRejected, null, null);
+    }
+
+    /**
+     * Crée l'avancement final d'un import réussi.
+     * 
+     * @param report Bilan de l'import
+     * @return L'avancement correspondant
+     */
+    public static ImportProgress completed(ImportReport report) {
+        return new ImportProgress(Phase.COMPLETED, report.rowsRead(), report.rowsRejected(), report, null);
+    }
+
+    /**
+     * Crée l'avancement final d'un import annulé.
+     * 
+     * @param message Motif de l'échec
+     * @return L'avancement correspondant
+     */
+    public static ImportProgress failed(String message) {
+        return new ImportProgress(Phase.FAILED, 0, 0, null, message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package fr.hachim.quizapi.core.importer;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bilan d'un import de quiz.
+ * 
+ * @param importId Identifiant de l'import
+ * @param rowsRead Nombre d'enregistrements lus
+ * @param rowsRejected Nombre d'enregistrements rejetés
+ * @param quizzesImported Nombre de quiz créés
+ * @param tagsCreated Nombre de tags créés
+ * @param tagsRestored Nombre de tags supprimés restaurés parce que l'import reprend leur nom
+ * @param tagLinks Nombre d'associations quiz-tag créées
+ * @param errors Motifs des premiers rejets
+ */
+public record ImportReport(UUID importId, long rowsRead, long rowsRejected, long quizzesImported,
+        long tagsCreated, long tagsRestored, long tagLinks, List<String> errors) {
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package fr.hachim.quizapi.core.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+/**
+ * Lecture incrémentale des fichiers d'import : les enregistrements sont décodés un par un
+ * au fil du flux, sans jamais charger le fichier entier en mémoire.
+ */
+@Component
+public class QuizImportReader {
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema()
+            .withHeader()
+            .withArrayElementSeparator(";");
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .build();
+
+    public QuizImportReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Ouvre un itérateur sur les quiz du flux.
+     * 
+     * @param input Le flux à lire
+     * @param format Le format du flux
+     * @return Itérateur des enregistrements, à fermer après usage
+     * @throws IOException si l'en-tête du flux ne peut être lu
+     */
+    public MappingIterator<QuizImportRecord> open(InputStream input, ImportFormat format) throws IOException {
+        return switch (format) {
+            case NDJSON -> objectMapper.readerFor(QuizImportRecord.class).readValues(input);
+            case CSV -> csvMapper.readerFor(QuizImportRecord.class).with(CSV_SCHEMA).readValues(input);
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package fr.hachim.quizapi.core.importer;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Quiz lu dans un fichier d'import. La catégorie et les tags sont désignés par leur nom.
+ * 
+ * @param title Titre
+ * @param description Description
+ * @param difficultyLevel Niveau de difficulté
+ * @param timeLimit Durée limite en secondes
+ * @param passingScore Score minimum pour réussir (pourcentage)
+ * @param status Statut (DRAFT par défaut)
+ * @param isPublic Visibilité
+ * @param category Nom de la catégorie
+ * @param tags Noms des tags
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record QuizImportRecord(String title, String description, String difficultyLevel,
+        Integer timeLimit, BigDecimal passingScore, String status, Boolean isPublic,
+        String category, List<String> tags) {
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package fr.hachim.quizapi.core.importer;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Écrit les quiz validés au format CSV attendu par {@code COPY import_quizzes FROM STDIN}.
+ * Les tags sont transmis sous forme de littéral de tableau PostgreSQL ({@code text[]}).
+ */
+public class QuizStagingWriter implements Closeable {
+
+    /**
+     * Table de transit, supprimée à la fin de la transaction.
+     */
+    public static final String CREATE_TABLE_SQL =
+            "CREATE TEMP TABLE import_quizzes (" +
+            "id UUID NOT NULL DEFAULT uuid_generate_v7(), " +
+            "title VARCHAR(255) NOT NULL, " +
+            "description TEXT, " +
+            "difficulty_level VARCHAR(20), " +
+            "time_limit INTEGER, " +
+            "passing_score NUMERIC(5,2), " +
+            "status VARCHAR(20) NOT NULL, " +
+            "is_public BOOLEAN NOT NULL, " +
+            "category_id UUID, " +
+            "tag_names TEXT[] NOT NULL" +
+            ") ON COMMIT DROP";
+
+    public static final String COPY_SQL =
+            "COPY import_quizzes (title, description, difficulty_level, time_limit, passing_score, " +
+            "status, is_public, category_id, tag_names) FROM STDIN WITH (FORMAT csv)";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    public QuizStagingWriter(OutputStream copyStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Écrit un quiz normalisé.
+     * 
+     * @param quiz Le quiz, avec difficulté et statut normalisés et tags dédoublonnés
+     * @param categoryId L'ID de la catégorie résolue (peut être null)
+     * @throws IOException si l'écriture vers le serveur échoue
+     */
+    public void write(QuizImportRecord quiz, UUID categoryId) throws IOException {
+        field(quiz.title());
+        writer.write(',');
+        field(quiz.description());
+        writer.write(',');
+        field(quiz.difficultyLevel());
+        writer.write(',');
+        field(quiz.timeLimit());
+        writer.write(',');
+        field(quiz.passingScore());
+        writer.write(',');
+        field(quiz.status());
+        writer.write(',');
+        field(Boolean.TRUE.equals(quiz.isPublic()));
+        writer.write(',');
+        field(categoryId);
+        writer.write(',');
+        quoted(arrayLiteral(quiz.tags()));
+        writer.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    /**
+     * Écrit une valeur ; une valeur nulle est laissée vide, ce que COPY interprète comme NULL.
+     */
+    private void field(Object value) throws IOException {
+        if (value != null) {
+            quoted(value.toString());
+        }
+    }
+
+    private void quoted(String value) throws IOException {
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String arrayLiteral(Collection<String> values) {
+        StringBuilder literal = new StringBuilder("{");
+        for (String value : values) {
+            if (literal.length() > 1) {
+                literal.append(',');
+            }
+            literal.append('"')
+                    .append(value.replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append('"');
+        }
+        return literal.append('}').toString();
+    }
+}
\ No newline at end of file
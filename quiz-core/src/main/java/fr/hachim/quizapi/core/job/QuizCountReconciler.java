@@ -0,0 +1,39 @@
+package fr.hachim.quizapi.core.job;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.hachim.quizapi.core.repository.CategoryRepository;
+import fr.hachim.quizapi.core.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tâche planifiée corrigeant la dérive des compteurs {@code quiz_count} des catégories et des tags.
+ * 
+ * Les compteurs sont maintenus par trigger ; une dérive ne peut venir que d'écritures
+ * contournant les triggers (désactivation, restauration partielle). Une écriture concurrente
+ * à la réconciliation peut elle-même laisser un écart, corrigé au passage suivant.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuizCountReconciler {
+
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+
+    /**
+     * Recalcule les compteurs qui diffèrent des agrégats réels.
+     */
+    @Scheduled(cron = "${quizapi.counters.reconcile-cron}")
+    @Transactional
+    public void reconcile() {
+        int categories = categoryRepository.reconcileQuizCounts();
+        int tags = tagRepository.reconcileQuizCounts();
+        if (categories > 0 || tags > 0) {
+            log.warn("Compteurs de quiz corrigés : {} catégories, {} tags", categories, tags);
+        }
+    }
+}
\ No newline at end of file
@@ -1,5 +1,8 @@
 package fr.hachim.quizapi.core.mapper;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 import org.springframework.stereotype.Component;
 
 import fr.hachim.quizapi.core.dto.CategoryDTO;
@@ -33,6 +36,35 @@ public class CategoryMapper {
                 .build();
     }
     
+    /**
+     * Construit un CategoryDTO à partir des colonnes d'une catégorie lues par une projection
+     * ou une requête native (jointure externe comprise).
+     * 
+     * @param id L'ID de la catégorie, null si le quiz n'en a pas
+     * @param name Le nom
+     * @param description La description
+     * @param parentId L'ID de la catégorie parente
+     * @param createdAt La date de création
+     * @param createdBy L'ID du créateur
+     * @return Le DTO correspondant, ou null si l'ID est null
+     */
+    public static CategoryDTO fromColumns(UUID id, String name, String description, UUID parentId,
+            LocalDateTime createdAt, UUID createdBy) {
+        if (id == null) {
+            return null;
+        }
+        
+        return CategoryDTO.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .parentId(parentId)
+                .createdAt(createdAt)
+                .createdBy(createdBy)
+                .isRootCategory(parentId == null)
+                .build();
+    }
+    
     /**
      * Convertit une entité Category en CategoryDTO avec le nombre de quiz associés.
      * 
@@ -1,15 +1,24 @@
 package fr.hachim.quizapi.core.mapper;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
+import fr.hachim.quizapi.core.dto.CategoryDTO;
 import fr.hachim.quizapi.core.dto.QuizCreationDTO;
 import fr.hachim.quizapi.core.dto.QuizDTO;
 import fr.hachim.quizapi.core.model.Category;
 import fr.hachim.quizapi.core.model.Quiz;
 import fr.hachim.quizapi.core.model.Tag;
+import fr.hachim.quizapi.core.repository.QuizSparseRepository;
+import fr.hachim.quizapi.core.repository.projection.QuizField;
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -69,6 +78,105 @@ public class QuizMapper {
         return dto;
     }
     
+    /**
+     * Convertit une entité Quiz en QuizDTO en piochant ses tags dans une map
+     * préchargée (voir {@code TagService#findTagsByQuizIds}).
+     * 
+     * @param quiz L'entité à convertir
+     * @param tagsByQuizId Les tags indexés par ID de quiz
+     * @return Le DTO correspondant
+     */
+    public QuizDTO toDTOWithTags(Quiz quiz, Map<UUID, Set<Tag>> tagsByQuizId) {
+        if (quiz == null) {
+            return null;
+        }
+        return toDTOWithTags(quiz, tagsByQuizId.getOrDefault(quiz.getId(), Set.of()));
+    }
+    
+    /**
+     * Convertit une projection QuizRow en QuizDTO, sans passer par l'entité.
+     * 
+     * @param row La projection à convertir
+     * @return Le DTO correspondant
+     */
+    public QuizDTO toDTO(QuizRow row) {
+        if (row == null) {
+            return null;
+        }
+        
+        QuizDTO.QuizDTOBuilder builder = QuizDTO.builder()
+                .id(row.id())
+                .title(row.title())
+                .description(row.description())
+                .difficultyLevel(row.difficultyLevel())
+                .timeLimit(row.timeLimit())
+                .passingScore(row.passingScore())
+                .status(row.status())
+                .isPublic(row.isPublic())
+                .createdAt(row.createdAt())
+                .createdBy(row.createdBy());
+        
+        builder.category(CategoryMapper.fromColumns(row.categoryId(), row.categoryName(),
+                row.categoryDescription(), row.categoryParentId(), row.categoryCreatedAt(),
+                row.categoryCreatedBy()));
+        
+        return builder.build();
+    }
+    
+    /**
+     * Convertit une projection QuizRow en QuizDTO avec ses tags préchargés.
+     * 
+     * @param row La projection à convertir
+     * @param tagsByQuizId Les tags indexés par ID de quiz
+     * @return Le DTO correspondant
+     */
+    public QuizDTO toDTOWithTags(QuizRow row, Map<UUID, Set<Tag>> tagsByQuizId) {
+        QuizDTO dto = toDTO(row);
+        if (dto != null) {
+            dto.setTags(tagsByQuizId.getOrDefault(row.id(), Set.of()).stream()
+                    .map(tagMapper::toDTO)
+                    .collect(Collectors.toSet()));
+        }
+        return dto;
+    }
+    
+    /**
+     * Convertit un tuple à champs choisis en map ordonnée comme un QuizDTO.
+     * Seuls les champs demandés figurent dans le résultat ; la catégorie garde
+     * la forme d'un CategoryDTO et les tags celle d'un ensemble de TagDTO.
+     * 
+     * @param tuple Le tuple issu de {@code QuizRepository#findSparseRows}
+     * @param fields Les champs demandés
+     * @param tagsByQuizId Les tags indexés par ID de quiz (vide si les tags ne sont pas demandés)
+     * @return Les champs du quiz indexés par nom
+     */
+    public Map<String, Object> toFieldMap(Tuple tuple, Set<QuizField> fields, Map<UUID, Set<Tag>> tagsByQuizId) {
+        UUID id = tuple.get(QuizField.ID.fieldName(), UUID.class);
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (QuizField field : fields) {
+            if (field.isColumn()) {
+                values.put(field.fieldName(), tuple.get(field.fieldName()));
+            } else if (field == QuizField.CATEGORY) {
+                values.put(field.fieldName(), toCategoryDTO(tuple));
+            } else {
+                values.put(field.fieldName(), tagsByQuizId.getOrDefault(id, Set.of()).stream()
+                        .map(tagMapper::toDTO)
+                        .collect(Collectors.toSet()));
+            }
+        }
+        return values;
+    }
+    
+    private CategoryDTO toCategoryDTO(Tuple tuple) {
+        return CategoryMapper.fromColumns(
+                tuple.get(QuizSparseRepository.CATEGORY_ID, UUID.class),
+                tuple.get(QuizSparseRepository.CATEGORY_NAME, String.class),
+                tuple.get(QuizSparseRepository.CATEGORY_DESCRIPTION, String.class),
+                tuple.get(QuizSparseRepository.CATEGORY_PARENT_ID, UUID.class),
+                tuple.get(QuizSparseRepository.CATEGORY_CREATED_AT, LocalDateTime.class),
+                tuple.get(QuizSparseRepository.CATEGORY_CREATED_BY, UUID.class));
+    }
+    
     /**
      * Convertit un QuizCreationDTO en entité Quiz.
      * 
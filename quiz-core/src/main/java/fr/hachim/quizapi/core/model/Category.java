@@ -5,10 +5,9 @@ import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
 
+import fr.hachim.quizapi.core.id.GeneratedUuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -24,7 +23,7 @@ import lombok.Data;
 public class Category {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
     
@@ -53,6 +52,13 @@ public class Category {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
     
+    /**
+     * Nombre de quiz non supprimés de la catégorie, maintenu par trigger en base.
+     * Null pour une catégorie qui n'a pas été chargée depuis la base.
+     */
+    @Column(name = "quiz_count", insertable = false, updatable = false)
+    private Long quizCount;
+    
     /**
      * Méthode appelée avant la mise à jour pour mettre à jour le timestamp.
      */
@@ -0,0 +1,35 @@
+package fr.hachim.quizapi.core.model;
+
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+/**
+ * Entité en lecture seule représentant un couple (ancêtre, descendant) de la hiérarchie des catégories.
+ * La table est maintenue par trigger à partir de {@code categories.parent_id}.
+ */
+@Data
+@Entity
+@Immutable
+@Table(name = "category_closure")
+@IdClass(CategoryClosureId.class)
+public class CategoryClosure {
+    
+    @Id
+    @Column(name = "ancestor_id")
+    private UUID ancestorId;
+    
+    @Id
+    @Column(name = "descendant_id")
+    private UUID descendantId;
+    
+    @Column(name = "depth", nullable = false)
+    private int depth;
+}
\ No newline at end of file
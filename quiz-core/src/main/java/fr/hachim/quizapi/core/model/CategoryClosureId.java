@@ -0,0 +1,22 @@
+package fr.hachim.quizapi.core.model;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Classe d'ID composite pour l'entité CategoryClosure.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryClosureId implements Serializable {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private UUID ancestorId;
+    private UUID descendantId;
+}
\ No newline at end of file
@@ -6,15 +6,18 @@ import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
 
+import fr.hachim.quizapi.core.id.GeneratedUuidV7;
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
 import jakarta.persistence.Column;
+import jakarta.persistence.ColumnResult;
+import jakarta.persistence.ConstructorResult;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SqlResultSetMapping;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import lombok.Data;
@@ -25,10 +28,33 @@ import lombok.Data;
 @Data
 @Entity
 @Table(name = "quizzes")
+@SqlResultSetMapping(name = Quiz.QUIZ_ROW_MAPPING, classes = @ConstructorResult(targetClass = QuizRow.class, columns = {
+        @ColumnResult(name = "id", type = UUID.class),
+        @ColumnResult(name = "title", type = String.class),
+        @ColumnResult(name = "description", type = String.class),
+        @ColumnResult(name = "difficulty_level", type = String.class),
+        @ColumnResult(name = "time_limit", type = Integer.class),
+        @ColumnResult(name = "passing_score", type = BigDecimal.class),
+        @ColumnResult(name = "status", type = String.class),
+        @ColumnResult(name = "is_public", type = Boolean.class),
+        @ColumnResult(name = "created_at", type = LocalDateTime.class),
+        @ColumnResult(name = "created_by", type = UUID.class),
+        @ColumnResult(name = "category_id", type = UUID.class),
+        @ColumnResult(name = "category_name", type = String.class),
+        @ColumnResult(name = "category_description", type = String.class),
+        @ColumnResult(name = "category_parent_id", type = UUID.class),
+        @ColumnResult(name = "category_created_at", type = LocalDateTime.class),
+        @ColumnResult(name = "category_created_by", type = UUID.class) }))
 public class Quiz {
     
+    /**
+     * Correspondance des requêtes natives vers la projection {@link QuizRow} : colonnes du quiz
+     * puis colonnes de sa catégorie préfixées par {@code category_}.
+     */
+    public static final String QUIZ_ROW_MAPPING = "QuizRow";
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
     
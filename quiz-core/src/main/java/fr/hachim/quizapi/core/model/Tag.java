@@ -5,10 +5,9 @@ import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
 
+import fr.hachim.quizapi.core.id.GeneratedUuidV7;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
@@ -23,7 +22,7 @@ import lombok.Data;
 public class Tag {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
     
@@ -37,9 +36,21 @@ public class Tag {
     @Column(name = "created_by")
     private UUID createdBy;
     
+    /**
+     * Horodatage de la dernière modification, maintenu par trigger en base.
+     */
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+    
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
     
+    /**
+     * Nombre de quiz non supprimés portant ce tag, maintenu par trigger en base.
+     */
+    @Column(name = "quiz_count", insertable = false, updatable = false)
+    private Long quizCount;
+    
     /**
      * Vérifie si le tag est supprimé.
      * 
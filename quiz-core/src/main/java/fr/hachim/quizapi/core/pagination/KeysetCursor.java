@@ -0,0 +1,89 @@
+package fr.hachim.quizapi.core.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import fr.hachim.quizapi.core.exception.BusinessException;
+
+/**
+ * Position dans un parcours par clé (keyset / seek pagination).
+ * Le curseur associe la valeur de la colonne de tri à l'ID de la ligne, qui sert
+ * de départage pour garantir un ordre total. Il est transmis aux clients sous
+ * forme de jeton opaque (Base64 URL-safe).
+ * 
+ * @param sortKey Valeur de la colonne de tri de la dernière ligne retournée
+ * @param id ID de la dernière ligne retournée
+ */
+public record KeysetCursor(String sortKey, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Crée un curseur pour un tri sur une date de création.
+     * 
+     * @param createdAt Date de création de la dernière ligne
+     * @param id ID de la dernière ligne
+     * @return Le curseur correspondant
+     */
+    public static KeysetCursor of(LocalDateTime createdAt, UUID id) {
+        return new KeysetCursor(createdAt.toString(), id);
+    }
+
+    /**
+     * Crée un curseur pour un tri sur une valeur textuelle.
+     * 
+     * @param sortKey Valeur de tri de la dernière ligne
+     * @param id ID de la dernière ligne
+     * @return Le curseur correspondant
+     */
+    public static KeysetCursor of(String sortKey, UUID id) {
+        return new KeysetCursor(sortKey, id);
+    }
+
+    /**
+     * Décode un jeton opaque reçu d'un client.
+     * 
+     * @param token Le jeton à décoder
+     * @return Le curseur correspondant
+     * @throws BusinessException si le jeton est invalide
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BusinessException("Curseur de pagination invalide");
+            }
+            return new KeysetCursor(raw.substring(separator + 1), UUID.fromString(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Curseur de pagination invalide", e);
+        }
+    }
+
+    /**
+     * Encode le curseur en jeton opaque.
+     * 
+     * @return Le jeton à transmettre au client
+     */
+    public String encode() {
+        String raw = id + String.valueOf(SEPARATOR) + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Interprète la valeur de tri comme une date de création.
+     * 
+     * @return La date correspondante
+     * @throws BusinessException si la valeur n'est pas une date
+     */
+    public LocalDateTime sortKeyAsDateTime() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("Curseur de pagination invalide", e);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package fr.hachim.quizapi.core.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -67,12 +69,12 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
     Long countSubcategories(@Param("categoryId") UUID categoryId);
     
     /**
-     * Compte le nombre de quiz dans une catégorie.
+     * Retourne le nombre de quiz dans une catégorie (compteur dénormalisé).
      * 
      * @param categoryId L'ID de la catégorie
-     * @return Le nombre de quiz
+     * @return Le nombre de quiz (null si la catégorie n'existe pas)
      */
-    @Query("SELECT COUNT(q) FROM Quiz q WHERE q.category.id = :categoryId AND q.deletedAt IS NULL")
+    @Query("SELECT c.quizCount FROM Category c WHERE c.id = :categoryId")
     Long countQuizzesByCategory(@Param("categoryId") UUID categoryId);
     
     /**
@@ -87,12 +89,20 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
      * 
      * @return Liste des catégories avec des statistiques
      */
-    @Query("SELECT c, COUNT(q) FROM Category c LEFT JOIN Quiz q ON q.category.id = c.id AND q.deletedAt IS NULL " +
+    @Query("SELECT c, c.quizCount FROM Category c " +
            "WHERE c.deletedAt IS NULL " +
-           "GROUP BY c.id " +
            "ORDER BY c.name")
     List<Object[]> findAllWithQuizCount();
     
+    /**
+     * Retourne les compteurs de quiz de plusieurs catégories (compteurs dénormalisés).
+     * 
+     * @param categoryIds IDs des catégories
+     * @return Paires [ID de catégorie, nombre de quiz]
+     */
+    @Query("SELECT c.id, c.quizCount FROM Category c WHERE c.id IN :categoryIds")
+    List<Object[]> findQuizCountsByIds(@Param("categoryIds") Collection<UUID> categoryIds);
+    
     /**
      * Recherche toute la hiérarchie des ancêtres d'une catégorie.
      * 
@@ -110,4 +120,27 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
                    "ORDER BY id DESC", 
                    nativeQuery = true)
     List<Category> findAncestorHierarchy(@Param("categoryId") UUID categoryId);
+    
+    /**
+     * Recalcule les compteurs de quiz des catégories qui ont dérivé.
+     * 
+     * @return Le nombre de catégories corrigées
+     */
+    @Modifying
+    @Query(value = "UPDATE categories c SET quiz_count = actual.quiz_count " +
+                   "FROM (SELECT c2.id, COUNT(q.id) AS quiz_count FROM categories c2 " +
+                   "      LEFT JOIN quizzes q ON q.category_id = c2.id AND q.deleted_at IS NULL " +
+                   "      GROUP BY c2.id) actual " +
+                   "WHERE c.id = actual.id AND c.quiz_count <> actual.quiz_count",
+           nativeQuery = true)
+    int reconcileQuizCounts();
+    
+    /**
+     * Sonde de version : horodatages de création et de modification, sans charger l'entité.
+     * 
+     * @param id ID de la catégorie
+     * @return Une ligne [createdAt, updatedAt], ou aucune si la catégorie n'existe pas
+     */
+    @Query("SELECT c.createdAt, c.updatedAt FROM Category c WHERE c.id = :id AND c.deletedAt IS NULL")
+    List<Object[]> findVersionTimestamps(@Param("id") UUID id);
 }
\ No newline at end of file
@@ -1,24 +1,64 @@
 package fr.hachim.quizapi.core.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.NativeQuery;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import fr.hachim.quizapi.core.model.Quiz;
+import fr.hachim.quizapi.core.repository.projection.QuizFacetCountRow;
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+import fr.hachim.quizapi.core.repository.projection.QuizSearchRow;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository pour l'entité Quiz.
  * Fournit des méthodes d'accès aux données pour les quiz.
  */
 @Repository
-public interface QuizRepository extends JpaRepository<Quiz, UUID> {
+public interface QuizRepository extends JpaRepository<Quiz, UUID>, QuizSparseRepository {
+    
+    /**
+     * Expression de construction commune aux requêtes de projection {@link QuizRow}.
+     * Suppose l'alias {@code q} pour le quiz et {@code c} pour sa catégorie (LEFT JOIN).
+     */
+    String QUIZ_ROW_SELECT = "SELECT new fr.hachim.quizapi.core.repository.projection.QuizRow(" +
+            "q.id, q.title, q.description, q.difficultyLevel, q.timeLimit, q.passingScore, " +
+            "q.status, q.isPublic, q.createdAt, q.createdBy, " +
+            "c.id, c.name, c.description, c.parentId, c.createdAt, c.createdBy) " +
+            "FROM Quiz q LEFT JOIN q.category c ";
+    
+    /**
+     * Clauses FROM/WHERE communes aux requêtes plein texte natives.
+     * {@code :query} est une expression tsquery (voir {@code TsQueryBuilder}), évaluée
+     * avec les racinisations française et anglaise indexées dans {@code search_vector}.
+     */
+    String FULL_TEXT_FROM = "FROM quizzes q, " +
+            "(SELECT to_tsquery('french', :query) || to_tsquery('english', :query) AS query) tsq " +
+            "WHERE q.deleted_at IS NULL AND q.status = 'PUBLISHED' AND q.search_vector @@ tsq.query AND " +
+            "(CAST(:categoryId AS uuid) IS NULL OR q.category_id = CAST(:categoryId AS uuid)) AND " +
+            "(CAST(:difficultyLevel AS varchar) IS NULL OR q.difficulty_level = CAST(:difficultyLevel AS varchar)) AND " +
+            "(CAST(:isPublic AS boolean) IS NULL OR q.is_public = CAST(:isPublic AS boolean)) ";
+    
+    /**
+     * Condition plein texte optionnelle des requêtes natives : vraie sans terme, sinon même
+     * correspondance que {@link #FULL_TEXT_FROM}. {@code :query} est une expression tsquery ou null.
+     */
+    String OPTIONAL_FULL_TEXT_MATCH = "(CAST(:query AS text) IS NULL OR q.search_vector @@ " +
+            "(to_tsquery('french', CAST(:query AS text)) || to_tsquery('english', CAST(:query AS text)))) ";
     
     /**
      * Recherche des quiz par titre (recherche partielle).
@@ -76,22 +116,9 @@ public interface QuizRepository extends JpaRepository<Quiz, UUID> {
     List<Quiz> findByCreatedAtAfterAndDeletedAtIsNull(LocalDateTime since);
     
     /**
-     * Recherche paginée de quiz par critères multiples.
-     * 
-     * @param searchTerm Terme de recherche (titre, description)
-     * @param pageable Pagination
-     * @return Page de quiz correspondants
-     */
-    @Query("SELECT q FROM Quiz q WHERE " +
-           "q.deletedAt IS NULL AND " +
-           "(LOWER(q.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(q.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-    Page<Quiz> searchQuizzes(@Param("searchTerm") String searchTerm, Pageable pageable);
-    
-    /**
-     * Recherche paginée de quiz par critères avancés.
+     * Recherche paginée de quiz publiés par filtres. Les recherches avec un terme passent
+     * par le moteur de recherche (voir {@code QuizSearchService}).
      * 
-     * @param searchTerm Terme de recherche
      * @param categoryId ID de catégorie (optionnel)
      * @param difficultyLevel Niveau de difficulté (optionnel)
      * @param isPublic Visibilité publique (optionnel)
@@ -100,13 +127,11 @@ public interface QuizRepository extends JpaRepository<Quiz, UUID> {
      */
     @Query("SELECT q FROM Quiz q WHERE " +
            "q.deletedAt IS NULL AND " +
-           "(:searchTerm IS NULL OR LOWER(q.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(q.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
            "(:categoryId IS NULL OR q.category.id = :categoryId) AND " +
            "(:difficultyLevel IS NULL OR q.difficultyLevel = :difficultyLevel) AND " +
            "(:isPublic IS NULL OR q.isPublic = :isPublic) AND " +
            "q.status = 'PUBLISHED'")
     Page<Quiz> findQuizzesByAdvancedSearch(
-            @Param("searchTerm") String searchTerm,
             @Param("categoryId") UUID categoryId,
             @Param("difficultyLevel") String difficultyLevel,
             @Param("isPublic") Boolean isPublic,
@@ -144,6 +169,20 @@ public interface QuizRepository extends JpaRepository<Quiz, UUID> {
      */
     Page<Quiz> findByCategoryIdAndDeletedAtIsNull(UUID categoryId, Pageable pageable);
     
+    /**
+     * Récupère les quiz d'une catégorie et de toutes ses sous-catégories, en une seule
+     * jointure sur la table de fermeture {@code category_closure}.
+     * 
+     * @param categoryId ID de la catégorie racine du sous-arbre
+     * @param pageable Options de pagination
+     * @return Page de projections correspondantes
+     */
+    @Query(value = QUIZ_ROW_SELECT + "JOIN CategoryClosure cc ON cc.descendantId = c.id " +
+           "WHERE cc.ancestorId = :categoryId AND q.deletedAt IS NULL",
+           countQuery = "SELECT COUNT(q) FROM Quiz q JOIN CategoryClosure cc ON cc.descendantId = q.category.id " +
+           "WHERE cc.ancestorId = :categoryId AND q.deletedAt IS NULL")
+    Page<QuizRow> findRowsInCategorySubtree(@Param("categoryId") UUID categoryId, Pageable pageable);
+    
     /**
      * Récupère les quiz avec un tag spécifique, avec pagination.
      * 
@@ -154,4 +193,230 @@ public interface QuizRepository extends JpaRepository<Quiz, UUID> {
     @Query("SELECT DISTINCT q FROM Quiz q JOIN QuizTag qt ON q.id = qt.quizId " +
            "WHERE qt.tagId = :tagId AND q.deletedAt IS NULL")
     Page<Quiz> findQuizzesByTagId(@Param("tagId") UUID tagId, Pageable pageable);
+    
+    /**
+     * Récupère les quiz non supprimés sous forme de projections en lecture seule.
+     * 
+     * @param pageable Options de pagination
+     * @return Page de projections
+     */
+    @Query(value = QUIZ_ROW_SELECT + "WHERE q.deletedAt IS NULL",
+           countQuery = "SELECT COUNT(q) FROM Quiz q WHERE q.deletedAt IS NULL")
+    Page<QuizRow> findAllRows(Pageable pageable);
+    
+    /**
+     * Variante de {@link #findQuizzesByAdvancedSearch} retournant des projections en lecture seule.
+     * 
+     * @param categoryId ID de catégorie (optionnel)
+     * @param difficultyLevel Niveau de difficulté (optionnel)
+     * @param isPublic Visibilité publique (optionnel)
+     * @param pageable Pagination
+     * @return Page de projections correspondantes
+     */
+    @Query(value = QUIZ_ROW_SELECT + "WHERE " +
+           "q.deletedAt IS NULL AND " +
+           "(:categoryId IS NULL OR c.id = :categoryId) AND " +
+           "(:difficultyLevel IS NULL OR q.difficultyLevel = :difficultyLevel) AND " +
+           "(:isPublic IS NULL OR q.isPublic = :isPublic) AND " +
+           "q.status = 'PUBLISHED'",
+           countQuery = "SELECT COUNT(q) FROM Quiz q WHERE " +
+           "q.deletedAt IS NULL AND " +
+           "(:categoryId IS NULL OR q.category.id = :categoryId) AND " +
+           "(:difficultyLevel IS NULL OR q.difficultyLevel = :difficultyLevel) AND " +
+           "(:isPublic IS NULL OR q.isPublic = :isPublic) AND " +
+           "q.status = 'PUBLISHED'")
+    Page<QuizRow> findRowsByAdvancedSearch(
+            @Param("categoryId") UUID categoryId,
+            @Param("difficultyLevel") String difficultyLevel,
+            @Param("isPublic") Boolean isPublic,
+            Pageable pageable);
+    
+    /**
+     * Parcourt les quiz non supprimés pour l'export, avec les filtres de la recherche
+     * (terme plein texte, catégorie, difficulté, visibilité) et un statut optionnel.
+     * Le terme est évalué sur {@code search_vector}, comme la recherche plein texte.
+     * Les lignes sont lues par un curseur côté serveur (fetch size) et ne sont pas attachées
+     * au contexte de persistance : la mémoire consommée ne dépend pas du nombre de quiz.
+     * Doit être appelé dans une transaction et le flux fermé après usage.
+     * 
+     * @param query Expression tsquery (optionnelle, voir {@code TsQueryBuilder})
+     * @param categoryId ID de catégorie (optionnel)
+     * @param difficultyLevel Niveau de difficulté (optionnel)
+     * @param isPublic Visibilité publique (optionnel)
+     * @param status Statut (optionnel, tous par défaut)
+     * @return Flux de projections, du plus ancien au plus récent
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @NativeQuery(value = "SELECT q.id, q.title, q.description, q.difficulty_level, q.time_limit, q.passing_score, " +
+                   "q.status, q.is_public, q.created_at, q.created_by, c.id AS category_id, c.name AS category_name, " +
+                   "c.description AS category_description, c.parent_id AS category_parent_id, " +
+                   "c.created_at AS category_created_at, c.created_by AS category_created_by " +
+                   "FROM quizzes q LEFT JOIN categories c ON c.id = q.category_id " +
+                   "WHERE q.deleted_at IS NULL AND " +
+                   OPTIONAL_FULL_TEXT_MATCH + "AND " +
+                   "(CAST(:categoryId AS uuid) IS NULL OR q.category_id = CAST(:categoryId AS uuid)) AND " +
+                   "(CAST(:difficultyLevel AS varchar) IS NULL " +
+                   "OR q.difficulty_level = CAST(:difficultyLevel AS varchar)) AND " +
+                   "(CAST(:isPublic AS boolean) IS NULL OR q.is_public = CAST(:isPublic AS boolean)) AND " +
+                   "(CAST(:status AS varchar) IS NULL OR q.status = CAST(:status AS varchar)) " +
+                   "ORDER BY q.created_at ASC, q.id ASC",
+           sqlResultSetMapping = Quiz.QUIZ_ROW_MAPPING)
+    Stream<QuizRow> streamRowsForExport(
+            @Param("query") String query,
+            @Param("categoryId") UUID categoryId,
+            @Param("difficultyLevel") String difficultyLevel,
+            @Param("isPublic") Boolean isPublic,
+            @Param("status") String status);
+    
+    /**
+     * Première page du parcours par curseur : quiz les plus récents en premier.
+     * 
+     * @param limit Nombre maximum de lignes
+     * @return Liste de projections
+     */
+    @Query(QUIZ_ROW_SELECT + "WHERE q.deletedAt IS NULL " +
+           "ORDER BY q.createdAt DESC, q.id DESC")
+    List<QuizRow> findRowsByKeyset(Limit limit);
+    
+    /**
+     * Page suivante du parcours par curseur : quiz strictement après la position
+     * (createdAt, id) donnée, dans l'ordre (createdAt DESC, id DESC).
+     * S'appuie sur l'index idx_quizzes_created_at sans OFFSET ni COUNT.
+     * 
+     * @param createdAt Date de création de la dernière ligne lue
+     * @param id ID de la dernière ligne lue
+     * @param limit Nombre maximum de lignes
+     * @return Liste de projections
+     */
+    @Query(QUIZ_ROW_SELECT + "WHERE q.deletedAt IS NULL AND " +
+           "(q.createdAt < :createdAt OR (q.createdAt = :createdAt AND q.id < :id)) " +
+           "ORDER BY q.createdAt DESC, q.id DESC")
+    List<QuizRow> findRowsByKeysetAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+    
+    /**
+     * Récupère des projections de quiz non supprimés par leurs IDs (ordre non garanti).
+     * 
+     * @param ids Les IDs des quiz
+     * @return Liste de projections
+     */
+    @Query(QUIZ_ROW_SELECT + "WHERE q.id IN :ids AND q.deletedAt IS NULL")
+    List<QuizRow> findRowsByIds(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Récupère les IDs des quiz non supprimés d'une catégorie.
+     * 
+     * @param categoryId L'ID de la catégorie
+     * @return Liste des IDs de quiz
+     */
+    @Query("SELECT q.id FROM Quiz q WHERE q.category.id = :categoryId AND q.deletedAt IS NULL")
+    List<UUID> findIdsByCategoryId(@Param("categoryId") UUID categoryId);
+    
+    /**
+     * Recherche plein texte classée par {@code ts_rank_cd}, avec extraits surlignés.
+     * Les extraits ne sont calculés que pour les lignes de la page demandée.
+     * 
+     * @param query Expression tsquery
+     * @param categoryId ID de catégorie (optionnel)
+     * @param difficultyLevel Niveau de difficulté (optionnel)
+     * @param isPublic Visibilité publique (optionnel)
+     * @param limit Taille de la page
+     * @param offset Position du premier résultat
+     * @return Les résultats de la page, du plus pertinent au moins pertinent
+     */
+    @Query(value = "SELECT r.id AS \"id\", r.rank AS \"rank\", " +
+                   "ts_headline('french', r.title, r.query, 'StartSel=<mark>, StopSel=</mark>, HighlightAll=true') AS \"titleHighlight\", " +
+                   "ts_headline('french', coalesce(r.description, ''), r.query, " +
+                   "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=25, MinWords=8') AS \"descriptionHighlight\" " +
+                   "FROM (SELECT q.id, q.title, q.description, tsq.query, " +
+                   "CAST(ts_rank_cd(q.search_vector, tsq.query) AS double precision) AS rank " +
+                   FULL_TEXT_FROM +
+                   "ORDER BY rank DESC, q.id LIMIT :limit OFFSET :offset) r " +
+                   "ORDER BY r.rank DESC, r.id",
+           nativeQuery = true)
+    List<QuizSearchRow> searchFullText(
+            @Param("query") String query,
+            @Param("categoryId") UUID categoryId,
+            @Param("difficultyLevel") String difficultyLevel,
+            @Param("isPublic") Boolean isPublic,
+            @Param("limit") int limit,
+            @Param("offset") long offset);
+    
+    /**
+     * Compte les résultats d'une recherche plein texte.
+     * 
+     * @param query Expression tsquery
+     * @param categoryId ID de catégorie (optionnel)
+     * @param difficultyLevel Niveau de difficulté (optionnel)
+     * @param isPublic Visibilité publique (optionnel)
+     * @return Le nombre de quiz correspondants
+     */
+    @Query(value = "SELECT COUNT(*) " + FULL_TEXT_FROM, nativeQuery = true)
+    long countFullText(
+            @Param("query") String query,
+            @Param("categoryId") UUID categoryId,
+            @Param("difficultyLevel") String difficultyLevel,
+            @Param("isPublic") Boolean isPublic);
+    
+    /**
+     * Compte, en une seule requête {@code GROUPING SETS}, les quiz publiés correspondant
+     * aux filtres pour chaque catégorie, niveau de difficulté, visibilité et tag.
+     * Le terme plein texte est optionnel ; les valeurs nulles (quiz sans catégorie ou sans tag) sont omises.
+     * 
+     * @param query Expression tsquery (optionnelle, voir {@code TsQueryBuilder})
+     * @param categoryId ID de catégorie (optionnel)
+     * @param difficultyLevel Niveau de difficulté (optionnel)
+     * @param isPublic Visibilité publique (optionnel)
+     * @return Lignes [facette, valeur, nombre de quiz]
+     */
+    @Query(value = "SELECT CASE WHEN GROUPING(q.category_id) = 0 THEN 'categoryId' " +
+                   "  WHEN GROUPING(q.difficulty_level) = 0 THEN 'difficultyLevel' " +
+                   "  WHEN GROUPING(q.is_public) = 0 THEN 'isPublic' " +
+                   "  ELSE 'tagId' END AS \"facet\", " +
+                   "COALESCE(CAST(q.category_id AS text), q.difficulty_level, CAST(q.is_public AS text), CAST(t.id AS text)) AS \"value\", " +
+                   "COUNT(DISTINCT q.id) AS \"count\" " +
+                   "FROM quizzes q " +
+                   "LEFT JOIN quiz_tags qt ON qt.quiz_id = q.id " +
+                   "LEFT JOIN tags t ON t.id = qt.tag_id AND t.deleted_at IS NULL " +
+                   "WHERE q.deleted_at IS NULL AND q.status = 'PUBLISHED' AND " +
+                   OPTIONAL_FULL_TEXT_MATCH + "AND " +
+                   "(CAST(:categoryId AS uuid) IS NULL OR q.category_id = CAST(:categoryId AS uuid)) AND " +
+                   "(CAST(:difficultyLevel AS varchar) IS NULL " +
+                   "OR q.difficulty_level = CAST(:difficultyLevel AS varchar)) AND " +
+                   "(CAST(:isPublic AS boolean) IS NULL OR q.is_public = CAST(:isPublic AS boolean)) " +
+                   "GROUP BY GROUPING SETS ((q.category_id), (q.difficulty_level), (q.is_public), (t.id)) " +
+                   "HAVING COALESCE(CAST(q.category_id AS text), q.difficulty_level, CAST(q.is_public AS text), CAST(t.id AS text)) IS NOT NULL",
+           nativeQuery = true)
+    List<QuizFacetCountRow> countFacets(
+            @Param("query") String query,
+            @Param("categoryId") UUID categoryId,
+            @Param("difficultyLevel") String difficultyLevel,
+            @Param("isPublic") Boolean isPublic);
+    
+    /**
+     * Sonde de version d'un quiz : horodatages du quiz, de sa catégorie et du plus récent de ses tags,
+     * sans charger l'entité. Les tags supprimés comptent : leur suppression modifie le quiz affiché.
+     * 
+     * @param id ID du quiz
+     * @return Une ligne [createdAt, updatedAt, catégorie updatedAt, tags updatedAt], ou aucune si le quiz n'existe pas
+     */
+    @Query("SELECT q.createdAt, q.updatedAt, c.updatedAt, " +
+           "(SELECT MAX(t.updatedAt) FROM QuizTag qt, Tag t WHERE t.id = qt.tagId AND qt.quizId = q.id) " +
+           "FROM Quiz q LEFT JOIN q.category c " +
+           "WHERE q.id = :id AND q.deletedAt IS NULL")
+    List<Object[]> findVersionTimestamps(@Param("id") UUID id);
+    
+    /**
+     * Met à jour l'horodatage de modification d'un quiz dont seules les associations (tags) ont changé.
+     * 
+     * @param id ID du quiz
+     */
+    @Modifying
+    @Query("UPDATE Quiz q SET q.updatedAt = CURRENT_TIMESTAMP WHERE q.id = :id")
+    void touch(@Param("id") UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package fr.hachim.quizapi.core.repository;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import fr.hachim.quizapi.core.repository.projection.QuizField;
+import jakarta.persistence.Tuple;
+
+/**
+ * Fragment de {@link QuizRepository} pour les listes à champs choisis :
+ * la clause SELECT ne contient que les colonnes demandées.
+ */
+public interface QuizSparseRepository {
+    
+    /** Alias des colonnes de catégorie quand {@link QuizField#CATEGORY} est demandé. */
+    String CATEGORY_ID = "categoryId";
+    String CATEGORY_NAME = "categoryName";
+    String CATEGORY_DESCRIPTION = "categoryDescription";
+    String CATEGORY_PARENT_ID = "categoryParentId";
+    String CATEGORY_CREATED_AT = "categoryCreatedAt";
+    String CATEGORY_CREATED_BY = "categoryCreatedBy";
+    
+    /**
+     * Récupère les quiz non supprimés en ne sélectionnant que les champs demandés.
+     * Chaque colonne est accessible dans le tuple sous le nom du champ
+     * ({@link QuizField#fieldName()}) ; les tags ne sont pas chargés.
+     * 
+     * @param fields Les champs à sélectionner
+     * @param categoryId ID de la catégorie racine du sous-arbre, ou null pour tous les quiz
+     * @param pageable Options de pagination
+     * @return Page de tuples
+     */
+    Page<Tuple> findSparseRows(Set<QuizField> fields, UUID categoryId, Pageable pageable);
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package fr.hachim.quizapi.core.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import fr.hachim.quizapi.core.model.Category;
+import fr.hachim.quizapi.core.model.CategoryClosure;
+import fr.hachim.quizapi.core.model.Quiz;
+import fr.hachim.quizapi.core.repository.projection.QuizField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Implémentation du fragment {@link QuizSparseRepository} en requête Criteria à projection dynamique.
+ * La catégorie n'est jointe que si elle est demandée ; le total n'est compté que si la page
+ * ne suffit pas à le déduire.
+ */
+class QuizSparseRepositoryImpl implements QuizSparseRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Tuple> findSparseRows(Set<QuizField> fields, UUID categoryId, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Quiz> quiz = query.from(Quiz.class);
+        
+        List<Selection<?>> selections = new ArrayList<>();
+        for (QuizField field : fields) {
+            if (field.isColumn()) {
+                selections.add(quiz.get(field.fieldName()).alias(field.fieldName()));
+            }
+        }
+        if (fields.contains(QuizField.CATEGORY)) {
+            Join<Quiz, Category> category = quiz.join("category", JoinType.LEFT);
+            selections.add(category.get("id").alias(CATEGORY_ID));
+            selections.add(category.get("name").alias(CATEGORY_NAME));
+            selections.add(category.get("description").alias(CATEGORY_DESCRIPTION));
+            selections.add(category.get("parentId").alias(CATEGORY_PARENT_ID));
+            selections.add(category.get("createdAt").alias(CATEGORY_CREATED_AT));
+            selections.add(category.get("createdBy").alias(CATEGORY_CREATED_BY));
+        }
+        
+        query.multiselect(selections)
+                .where(filters(cb, query, quiz, categoryId))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), quiz, cb));
+        
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable,
+                () -> count(cb, categoryId));
+    }
+    
+    private long count(CriteriaBuilder cb, UUID categoryId) {
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Quiz> quiz = query.from(Quiz.class);
+        query.select(cb.count(quiz)).where(filters(cb, query, quiz, categoryId));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+    
+    /**
+     * Quiz non supprimés, restreints au sous-arbre de la catégorie via la table de fermeture.
+     */
+    private Predicate[] filters(CriteriaBuilder cb, AbstractQuery<?> query, Root<Quiz> quiz, UUID categoryId) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isNull(quiz.get("deletedAt")));
+        if (categoryId != null) {
+            Subquery<UUID> subtree = query.subquery(UUID.class);
+            Root<CategoryClosure> closure = subtree.from(CategoryClosure.class);
+            subtree.select(closure.<UUID>get("descendantId"))
+                    .where(cb.equal(closure.get("ancestorId"), categoryId));
+            predicates.add(quiz.get("category").get("id").in(subtree));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+}
\ No newline at end of file
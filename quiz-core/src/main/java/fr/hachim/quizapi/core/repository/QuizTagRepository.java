@@ -1,6 +1,8 @@
 package fr.hachim.quizapi.core.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -35,6 +37,45 @@ public interface QuizTagRepository extends JpaRepository<QuizTag, QuizTagId> {
      */
     List<QuizTag> findByTagId(UUID tagId);
     
+    /**
+     * Récupère les IDs des quiz associés à un tag, supprimé ou non.
+     * 
+     * @param tagId L'ID du tag
+     * @return Liste des IDs de quiz
+     */
+    @Query("SELECT qt.quizId FROM QuizTag qt WHERE qt.tagId = :tagId")
+    List<UUID> findQuizIdsByTagId(@Param("tagId") UUID tagId);
+    
+    /**
+     * Récupère les IDs des tags associés à un quiz.
+     * 
+     * @param quizId L'ID du quiz
+     * @return Ensemble des IDs de tags
+     */
+    @Query("SELECT qt.tagId FROM QuizTag qt WHERE qt.quizId = :quizId")
+    Set<UUID> findTagIdsByQuizId(@Param("quizId") UUID quizId);
+    
+    /**
+     * Récupère les IDs des tags non supprimés associés à plusieurs quiz.
+     * 
+     * @param quizIds Les IDs des quiz
+     * @return Liste de paires [quizId, tagId]
+     */
+    @Query("SELECT qt.quizId, qt.tagId FROM QuizTag qt JOIN Tag t ON t.id = qt.tagId " +
+           "WHERE qt.quizId IN :quizIds AND t.deletedAt IS NULL")
+    List<Object[]> findActiveTagIdsByQuizIds(@Param("quizIds") Collection<UUID> quizIds);
+    
+    /**
+     * Récupère les noms des tags non supprimés associés à plusieurs quiz.
+     * Les valeurs retournées ne sont pas des entités : rien n'est attaché au contexte de persistance.
+     * 
+     * @param quizIds Les IDs des quiz
+     * @return Liste de paires [quizId, nom du tag]
+     */
+    @Query("SELECT qt.quizId, t.name FROM QuizTag qt JOIN Tag t ON t.id = qt.tagId " +
+           "WHERE qt.quizId IN :quizIds AND t.deletedAt IS NULL")
+    List<Object[]> findActiveTagNamesByQuizIds(@Param("quizIds") Collection<UUID> quizIds);
+    
     /**
      * Supprime toutes les associations pour un quiz.
      * 
@@ -44,6 +85,32 @@ public interface QuizTagRepository extends JpaRepository<QuizTag, QuizTagId> {
     @Query("DELETE FROM QuizTag qt WHERE qt.quizId = :quizId")
     void deleteByQuizId(@Param("quizId") UUID quizId);
     
+    /**
+     * Supprime en une seule requête les associations d'un quiz avec les tags donnés.
+     * 
+     * @param quizId L'ID du quiz
+     * @param tagIds Les IDs des tags à détacher
+     * @return Le nombre d'associations supprimées
+     */
+    @Modifying
+    @Query("DELETE FROM QuizTag qt WHERE qt.quizId = :quizId AND qt.tagId IN :tagIds")
+    int deleteByQuizIdAndTagIdIn(@Param("quizId") UUID quizId, @Param("tagIds") Collection<UUID> tagIds);
+    
+    /**
+     * Associe un quiz à plusieurs tags avec un seul INSERT multi-lignes.
+     * Les associations déjà présentes sont ignorées.
+     * 
+     * @param quizId L'ID du quiz
+     * @param tagIds Les IDs des tags à associer
+     * @return Le nombre d'associations créées
+     */
+    @Modifying
+    @Query(value = "INSERT INTO quiz_tags (quiz_id, tag_id) " +
+                   "SELECT :quizId, t.id FROM tags t WHERE t.id IN :tagIds " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertTags(@Param("quizId") UUID quizId, @Param("tagIds") Collection<UUID> tagIds);
+    
     /**
      * Supprime toutes les associations pour un tag.
      * 
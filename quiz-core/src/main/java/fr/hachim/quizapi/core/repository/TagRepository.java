@@ -1,10 +1,13 @@
 package fr.hachim.quizapi.core.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -57,6 +60,24 @@ public interface TagRepository extends JpaRepository<Tag, UUID> {
      */
     boolean existsByNameIgnoreCaseAndDeletedAtIsNull(String name);
     
+    /**
+     * Récupère, en minuscules, les noms déjà pris parmi ceux fournis.
+     * 
+     * @param names Les noms à vérifier, en minuscules
+     * @return Les noms déjà utilisés par un tag non supprimé
+     */
+    @Query("SELECT LOWER(t.name) FROM Tag t WHERE LOWER(t.name) IN :names AND t.deletedAt IS NULL")
+    Set<String> findTakenNamesIgnoreCase(@Param("names") Collection<String> names);
+    
+    /**
+     * Filtre une liste d'IDs pour ne garder que ceux des tags non supprimés.
+     * 
+     * @param ids Les IDs à vérifier
+     * @return Les IDs correspondant à un tag existant
+     */
+    @Query("SELECT t.id FROM Tag t WHERE t.id IN :ids AND t.deletedAt IS NULL")
+    Set<UUID> findActiveIdsByIdIn(@Param("ids") Collection<UUID> ids);
+    
     /**
      * Récupère les tags associés à un quiz.
      * 
@@ -67,6 +88,17 @@ public interface TagRepository extends JpaRepository<Tag, UUID> {
            "WHERE qt.quizId = :quizId AND t.deletedAt IS NULL")
     List<Tag> findTagsByQuizId(@Param("quizId") UUID quizId);
     
+    /**
+     * Récupère en une seule requête les tags associés à plusieurs quiz.
+     * Chaque ligne contient l'ID du quiz suivi du tag associé.
+     * 
+     * @param quizIds Les IDs des quiz
+     * @return Liste de paires [quizId, tag]
+     */
+    @Query("SELECT qt.quizId, t FROM Tag t JOIN QuizTag qt ON t.id = qt.tagId " +
+           "WHERE qt.quizId IN :quizIds AND t.deletedAt IS NULL")
+    List<Object[]> findTagsByQuizIds(@Param("quizIds") Collection<UUID> quizIds);
+    
     /**
      * Recherche les tags populaires basés sur leur utilisation.
      * 
@@ -74,10 +106,8 @@ public interface TagRepository extends JpaRepository<Tag, UUID> {
      * @return Liste des tags populaires
      */
     @Query(value = "SELECT t.* FROM tags t " +
-                   "JOIN quiz_tags qt ON t.id = qt.tag_id " +
-                   "WHERE t.deleted_at IS NULL " +
-                   "GROUP BY t.id " +
-                   "ORDER BY COUNT(qt.quiz_id) DESC " +
+                   "WHERE t.deleted_at IS NULL AND t.quiz_count > 0 " +
+                   "ORDER BY t.quiz_count DESC " +
                    "LIMIT :limit", 
                    nativeQuery = true)
     List<Tag> findPopularTags(@Param("limit") int limit);
@@ -87,9 +117,8 @@ public interface TagRepository extends JpaRepository<Tag, UUID> {
      * 
      * @return Liste des tags avec leur utilisation
      */
-    @Query("SELECT t, COUNT(qt.quizId) FROM Tag t LEFT JOIN QuizTag qt ON t.id = qt.tagId " +
+    @Query("SELECT t, t.quizCount FROM Tag t " +
            "WHERE t.deletedAt IS NULL " +
-           "GROUP BY t.id " +
            "ORDER BY t.name")
     List<Object[]> findAllWithQuizCount();
     
@@ -104,4 +133,28 @@ public interface TagRepository extends JpaRepository<Tag, UUID> {
            "JOIN Quiz q ON qt.quizId = q.id " +
            "WHERE q.createdBy = :userId AND t.deletedAt IS NULL AND q.deletedAt IS NULL")
     List<Tag> findTagsUsedByUser(@Param("userId") UUID userId);
+    
+    /**
+     * Recalcule les compteurs de quiz des tags qui ont dérivé.
+     * 
+     * @return Le nombre de tags corrigés
+     */
+    @Modifying
+    @Query(value = "UPDATE tags t SET quiz_count = actual.quiz_count " +
+                   "FROM (SELECT t2.id, COUNT(q.id) AS quiz_count FROM tags t2 " +
+                   "      LEFT JOIN quiz_tags qt ON qt.tag_id = t2.id " +
+                   "      LEFT JOIN quizzes q ON q.id = qt.quiz_id AND q.deleted_at IS NULL " +
+                   "      GROUP BY t2.id) actual " +
+                   "WHERE t.id = actual.id AND t.quiz_count <> actual.quiz_count",
+           nativeQuery = true)
+    int reconcileQuizCounts();
+    
+    /**
+     * Sonde de version : horodatages de création et de modification, sans charger l'entité.
+     * 
+     * @param id ID du tag
+     * @return Une ligne [createdAt, updatedAt], ou aucune si le tag n'existe pas
+     */
+    @Query("SELECT t.createdAt, t.updatedAt FROM Tag t WHERE t.id = :id AND t.deletedAt IS NULL")
+    List<Object[]> findVersionTimestamps(@Param("id") UUID id);
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package fr.hachim.quizapi.core.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,6 +32,14 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     Optional<User> findByUsername(String username);
     
+    /**
+     * Récupère les utilisateurs non supprimés, avec pagination.
+     * 
+     * @param pageable Options de pagination
+     * @return Page d'utilisateurs
+     */
+    Page<User> findByDeletedAtIsNull(Pageable pageable);
+    
     /**
      * Recherche un utilisateur par son adresse email.
      * 
@@ -51,6 +64,24 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     boolean existsByEmail(String email);
     
+    /**
+     * Récupère les noms d'utilisateur déjà pris parmi ceux fournis.
+     * 
+     * @param usernames Les noms d'utilisateur à vérifier
+     * @return Les noms d'utilisateur existants
+     */
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+    
+    /**
+     * Récupère les adresses email déjà utilisées parmi celles fournies.
+     * 
+     * @param emails Les adresses email à vérifier
+     * @return Les adresses email existantes
+     */
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
     /**
      * Recherche des utilisateurs par état d'activité.
      * 
@@ -90,4 +121,39 @@ public interface UserRepository extends JpaRepository<User, UUID> {
            "LOWER(u.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     List<User> searchUsers(@Param("searchTerm") String searchTerm);
+    
+    /**
+     * Première page du parcours par curseur, par nom d'utilisateur croissant.
+     * 
+     * @param limit Nombre maximum de lignes
+     * @return Liste des utilisateurs
+     */
+    @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL ORDER BY u.username ASC, u.id ASC")
+    List<User> findByKeyset(Limit limit);
+    
+    /**
+     * Page suivante du parcours par curseur : utilisateurs strictement après la
+     * position (username, id) donnée.
+     * 
+     * @param username Nom d'utilisateur de la dernière ligne lue
+     * @param id ID de la dernière ligne lue
+     * @param limit Nombre maximum de lignes
+     * @return Liste des utilisateurs
+     */
+    @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL AND " +
+           "(u.username > :username OR (u.username = :username AND u.id > :id)) " +
+           "ORDER BY u.username ASC, u.id ASC")
+    List<User> findByKeysetAfter(
+            @Param("username") String username,
+            @Param("id") UUID id,
+            Limit limit);
+    
+    /**
+     * Sonde de version : horodatages de création et de modification, sans charger l'entité.
+     * 
+     * @param id ID de l'utilisateur
+     * @return Une ligne [createdAt, updatedAt], ou aucune si l'utilisateur n'existe pas
+     */
+    @Query("SELECT u.createdAt, u.updatedAt FROM User u WHERE u.id = :id AND u.deletedAt IS NULL")
+    List<Object[]> findVersionTimestamps(@Param("id") UUID id);
 }
\ No newline at end of file
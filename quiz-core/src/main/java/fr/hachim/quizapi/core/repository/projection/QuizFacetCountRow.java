@@ -0,0 +1,14 @@
+package fr.hachim.quizapi.core.repository.projection;
+
+/**
+ * Projection d'une ligne de la requête de comptes par facette : clé de facette,
+ * valeur de la facette et nombre de quiz distincts.
+ */
+public interface QuizFacetCountRow {
+
+    String getFacet();
+
+    String getValue();
+
+    Long getCount();
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package fr.hachim.quizapi.core.repository.projection;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import fr.hachim.quizapi.core.exception.BusinessException;
+
+/**
+ * Champs d'un quiz sélectionnables par le paramètre {@code fields} des listes.
+ * Le nom de chaque champ est à la fois sa clé JSON et l'attribut de l'entité {@code Quiz}
+ * qui le porte ; {@link #CATEGORY} ajoute une jointure, {@link #TAGS} une requête par lot.
+ */
+public enum QuizField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    DIFFICULTY_LEVEL("difficultyLevel"),
+    TIME_LIMIT("timeLimit"),
+    PASSING_SCORE("passingScore"),
+    STATUS("status"),
+    IS_PUBLIC("isPublic"),
+    CATEGORY("category"),
+    TAGS("tags"),
+    CREATED_AT("createdAt"),
+    CREATED_BY("createdBy");
+
+    private final String fieldName;
+
+    QuizField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Indique si le champ est une colonne de la table des quiz.
+     * 
+     * @return true sauf pour la catégorie et les tags
+     */
+    public boolean isColumn() {
+        return this != CATEGORY && this != TAGS;
+    }
+
+    /**
+     * Analyse une liste de champs séparés par des virgules. L'ID est toujours inclus.
+     * 
+     * @param fields Les noms de champs, par exemple {@code "id,title,difficultyLevel"}
+     * @return Les champs demandés, dans l'ordre de déclaration
+     * @throws BusinessException si un nom de champ est inconnu
+     */
+    public static Set<QuizField> parse(String fields) {
+        Set<QuizField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(fromFieldName(trimmed));
+        }
+        return selected;
+    }
+
+    private static QuizField fromFieldName(String name) {
+        for (QuizField field : values()) {
+            if (field.fieldName.equals(name)) {
+                return field;
+            }
+        }
+        throw new BusinessException("Champ inconnu : " + name);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package fr.hachim.quizapi.core.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection en lecture seule d'un quiz et de sa catégorie.
+ * Construite directement par les requêtes JPQL ({@code SELECT new ...}) :
+ * aucune entité n'est attachée au contexte de persistance, donc ni dirty checking
+ * ni initialisation de proxy lazy.
+ */
+public record QuizRow(
+        UUID id,
+        String title,
+        String description,
+        String difficultyLevel,
+        Integer timeLimit,
+        BigDecimal passingScore,
+        String status,
+        Boolean isPublic,
+        LocalDateTime createdAt,
+        UUID createdBy,
+        UUID categoryId,
+        String categoryName,
+        String categoryDescription,
+        UUID categoryParentId,
+        LocalDateTime categoryCreatedAt,
+        UUID categoryCreatedBy) {
+}
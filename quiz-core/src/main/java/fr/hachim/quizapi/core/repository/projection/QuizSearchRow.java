@@ -0,0 +1,17 @@
+package fr.hachim.quizapi.core.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Projection d'une ligne de résultat de la recherche plein texte PostgreSQL.
+ */
+public interface QuizSearchRow {
+
+    UUID getId();
+
+    Double getRank();
+
+    String getTitleHighlight();
+
+    String getDescriptionHighlight();
+}
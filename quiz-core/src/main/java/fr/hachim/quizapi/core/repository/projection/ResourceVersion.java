@@ -0,0 +1,52 @@
+package fr.hachim.quizapi.core.repository.projection;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Version d'une ressource : son ID et l'horodatage de sa dernière modification (ou de sa création),
+ * dont dérivent l'ETag et l'en-tête Last-Modified des lectures unitaires.
+ * 
+ * @param id ID de la ressource
+ * @param updatedAt Horodatage de la dernière modification
+ */
+public record ResourceVersion(UUID id, LocalDateTime updatedAt) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * Crée la version d'une ressource à partir des horodatages de ses éléments
+     * (la ressource elle-même et ce qu'elle embarque). Les horodatages nuls sont ignorés.
+     * 
+     * @param id ID de la ressource
+     * @param timestamps Horodatages de création ou de modification
+     * @return La version, datée du plus récent horodatage
+     */
+    public static ResourceVersion latest(UUID id, Object... timestamps) {
+        LocalDateTime latest = EPOCH;
+        for (Object timestamp : timestamps) {
+            if (timestamp instanceof LocalDateTime dateTime && dateTime.isAfter(latest)) {
+                latest = dateTime;
+            }
+        }
+        return new ResourceVersion(id, latest);
+    }
+
+    /**
+     * ETag faible : la représentation d'une même version ne diffère que par l'horodatage de la réponse.
+     * 
+     * @return L'ETag, au format {@code W/"<id>-<microsecondes>"}
+     */
+    public String etag() {
+        return "W/\"" + id + "-" + ChronoUnit.MICROS.between(EPOCH, updatedAt) + "\"";
+    }
+
+    /**
+     * @return La date de dernière modification, en millisecondes depuis l'époque
+     */
+    public long lastModified() {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
\ No newline at end of file
@@ -1,15 +1,12 @@
 package fr.hachim.quizapi.core.repository.specification;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 import org.springframework.data.jpa.domain.Specification;
 
 import fr.hachim.quizapi.core.model.Quiz;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
-import jakarta.persistence.criteria.Predicate;
 
 /**
  * Spécifications JPA pour les requêtes dynamiques sur les quiz.
@@ -169,34 +166,4 @@ public class QuizSpecifications {
         return (root, query, criteriaBuilder) -> 
             criteriaBuilder.isNull(root.get("deletedAt"));
     }
-    
-    /**
-     * Crée une spécification pour rechercher des quiz par terme de recherche global
-     * (recherche dans le titre et la description).
-     * 
-     * @param searchTerm Le terme de recherche
-     * @return La spécification correspondante
-     */
-    public static Specification<Quiz> searchByTerm(String searchTerm) {
-        return (root, query, criteriaBuilder) -> {
-            if (searchTerm == null || searchTerm.isEmpty()) {
-                return criteriaBuilder.conjunction();
-            }
-            
-            String searchPattern = "%" + searchTerm.toLowerCase() + "%";
-            List<Predicate> predicates = new ArrayList<>();
-            
-            predicates.add(criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("title")), 
-                searchPattern
-            ));
-            
-            predicates.add(criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("description")), 
-                searchPattern
-            ));
-            
-            return criteriaBuilder.or(predicates.toArray(new Predicate[0]));
-        };
-    }
 }
\ No newline at end of file
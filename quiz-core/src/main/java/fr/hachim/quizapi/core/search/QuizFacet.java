@@ -0,0 +1,27 @@
+package fr.hachim.quizapi.core.search;
+
+/**
+ * Facettes de recherche des quiz, avec la clé utilisée dans les réponses de l'API.
+ */
+public enum QuizFacet {
+
+    CATEGORY("categoryId"),
+    DIFFICULTY("difficultyLevel"),
+    VISIBILITY("isPublic"),
+    TAG("tagId");
+
+    private final String key;
+
+    QuizFacet(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Retourne la clé de la facette dans les réponses de l'API.
+     * 
+     * @return La clé de la facette
+     */
+    public String key() {
+        return key;
+    }
+}
\ No newline at end of file
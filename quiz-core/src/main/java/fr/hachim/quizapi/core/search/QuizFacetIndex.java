@@ -0,0 +1,178 @@
+package fr.hachim.quizapi.core.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+
+/**
+ * Index de facettes en mémoire : un bitmap d'ordinaux par catégorie, par niveau de
+ * difficulté, par statut, par tag et pour la visibilité publique. Les filtres de recherche sont
+ * évalués par ET/OU bit à bit et les comptes par facette sont des cardinalités
+ * d'intersection, sans requête en base.
+ * 
+ * Partage l'espace d'ordinaux de {@link QuizInvertedIndex} ; {@link QuizSearchIndex} en synchronise l'accès.
+ */
+class QuizFacetIndex {
+
+    private static final BitSet EMPTY = new BitSet();
+    private static final String PUBLISHED = "PUBLISHED";
+
+    private final Map<UUID, BitSet> byCategory = new HashMap<>();
+    private final Map<String, BitSet> byDifficulty = new HashMap<>();
+    private final Map<String, BitSet> byStatus = new HashMap<>();
+    private final Map<UUID, BitSet> byTag = new HashMap<>();
+    private final BitSet publicQuizzes = new BitSet();
+    private FacetValues[] valuesByOrdinal = new FacetValues[1024];
+
+    /**
+     * Enregistre (ou remplace) les valeurs de facettes d'un quiz.
+     * 
+     * @param ordinal Ordinal du quiz
+     * @param row Projection du quiz
+     * @param tagIds IDs des tags non supprimés du quiz
+     */
+    void put(int ordinal, QuizRow row, Set<UUID> tagIds) {
+        remove(ordinal);
+        if (ordinal >= valuesByOrdinal.length) {
+            valuesByOrdinal = Arrays.copyOf(valuesByOrdinal, Math.max(ordinal + 1, valuesByOrdinal.length * 2));
+        }
+        FacetValues values = new FacetValues(row.categoryId(), row.difficultyLevel(), row.status(),
+                Boolean.TRUE.equals(row.isPublic()), Set.copyOf(tagIds));
+        valuesByOrdinal[ordinal] = values;
+        
+        if (values.categoryId() != null) {
+            byCategory.computeIfAbsent(values.categoryId(), id -> new BitSet()).set(ordinal);
+        }
+        if (values.difficultyLevel() != null) {
+            byDifficulty.computeIfAbsent(values.difficultyLevel(), level -> new BitSet()).set(ordinal);
+        }
+        byStatus.computeIfAbsent(values.status(), status -> new BitSet()).set(ordinal);
+        publicQuizzes.set(ordinal, values.isPublic());
+        values.tagIds().forEach(tagId -> byTag.computeIfAbsent(tagId, id -> new BitSet()).set(ordinal));
+    }
+
+    /**
+     * Retire un quiz de tous les bitmaps.
+     * 
+     * @param ordinal Ordinal du quiz
+     */
+    void remove(int ordinal) {
+        if (ordinal >= valuesByOrdinal.length || valuesByOrdinal[ordinal] == null) {
+            return;
+        }
+        FacetValues values = valuesByOrdinal[ordinal];
+        clearBit(byCategory, values.categoryId(), ordinal);
+        clearBit(byDifficulty, values.difficultyLevel(), ordinal);
+        clearBit(byStatus, values.status(), ordinal);
+        values.tagIds().forEach(tagId -> clearBit(byTag, tagId, ordinal));
+        publicQuizzes.clear(ordinal);
+        valuesByOrdinal[ordinal] = null;
+    }
+
+    /**
+     * @param categoryId ID de la catégorie
+     * @return Bitmap des ordinaux des quiz indexés dans la catégorie (nouvelle instance)
+     */
+    BitSet inCategory(UUID categoryId) {
+        return (BitSet) byCategory.getOrDefault(categoryId, EMPTY).clone();
+    }
+
+    /**
+     * @param tagId ID du tag
+     * @return Bitmap des ordinaux des quiz indexés avec le tag (nouvelle instance)
+     */
+    BitSet withTag(UUID tagId) {
+        return (BitSet) byTag.getOrDefault(tagId, EMPTY).clone();
+    }
+
+    /**
+     * Calcule l'ensemble des quiz publiés satisfaisant les filtres des critères
+     * (le terme de recherche est ignoré).
+     * 
+     * @param criteria Critères de recherche
+     * @return Bitmap des ordinaux correspondants (nouvelle instance, modifiable)
+     */
+    BitSet filter(QuizSearchCriteria criteria) {
+        BitSet result = (BitSet) byStatus.getOrDefault(PUBLISHED, EMPTY).clone();
+        if (criteria.categoryId() != null) {
+            result.and(byCategory.getOrDefault(criteria.categoryId(), EMPTY));
+        }
+        if (criteria.difficultyLevel() != null) {
+            result.and(byDifficulty.getOrDefault(criteria.difficultyLevel(), EMPTY));
+        }
+        if (Boolean.TRUE.equals(criteria.isPublic())) {
+            result.and(publicQuizzes);
+        } else if (Boolean.FALSE.equals(criteria.isPublic())) {
+            result.andNot(publicQuizzes);
+        }
+        return result;
+    }
+
+    /**
+     * Compte, pour chaque valeur de facette, les quiz d'un ensemble de résultats.
+     * Les valeurs sans aucun quiz sont omises.
+     * 
+     * @param result Bitmap des résultats
+     * @return Comptes indexés par clé de facette puis par valeur
+     */
+    Map<String, Map<String, Long>> counts(BitSet result) {
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        counts.put(QuizFacet.CATEGORY.key(), countByValue(byCategory, result));
+        counts.put(QuizFacet.DIFFICULTY.key(), countByValue(byDifficulty, result));
+        
+        long publicCount = intersectionCardinality(result, publicQuizzes);
+        Map<String, Long> visibility = new LinkedHashMap<>();
+        if (publicCount > 0) {
+            visibility.put("true", publicCount);
+        }
+        if (result.cardinality() > publicCount) {
+            visibility.put("false", result.cardinality() - publicCount);
+        }
+        counts.put(QuizFacet.VISIBILITY.key(), visibility);
+        counts.put(QuizFacet.TAG.key(), countByValue(byTag, result));
+        return counts;
+    }
+
+    private static <K> Map<String, Long> countByValue(Map<K, BitSet> bitmaps, BitSet result) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        bitmaps.forEach((value, bits) -> {
+            long count = intersectionCardinality(result, bits);
+            if (count > 0) {
+                counts.put(value.toString(), count);
+            }
+        });
+        return counts;
+    }
+
+    private static long intersectionCardinality(BitSet a, BitSet b) {
+        BitSet intersection = (BitSet) a.clone();
+        intersection.and(b);
+        return intersection.cardinality();
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> bitmaps, K value, int ordinal) {
+        if (value == null) {
+            return;
+        }
+        BitSet bits = bitmaps.get(value);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                bitmaps.remove(value);
+            }
+        }
+    }
+
+    /**
+     * Valeurs de facettes d'un quiz, conservées pour pouvoir le retirer des bitmaps.
+     */
+    private record FacetValues(UUID categoryId, String difficultyLevel, String status, boolean isPublic,
+            Set<UUID> tagIds) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,366 @@
+package fr.hachim.quizapi.core.search;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+
+/**
+ * Contenu de l'index de recherche en mémoire : dictionnaire des termes, postings, longueurs
+ * des documents et facettes, dans un espace d'ordinaux denses.
+ * 
+ * Chaque quiz reçoit un ordinal ; pour chaque terme, la liste des ordinaux qui le contiennent
+ * (postings) est stockée dans des tableaux d'entiers triés, accompagnés des fréquences du terme.
+ * Les ordinaux libérés par les quiz retirés sont réutilisés.
+ * 
+ * Non synchronisé : {@link QuizSearchIndex} en synchronise l'accès.
+ */
+class QuizInvertedIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    static final int TITLE_BOOST = 2;
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final NavigableMap<String, Postings> dictionary = new TreeMap<>();
+    private final Map<UUID, Integer> ordinalsById = new HashMap<>();
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private String[][] termsByOrdinal = new String[INITIAL_CAPACITY][];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private LocalDateTime[] createdAts = new LocalDateTime[INITIAL_CAPACITY];
+    private final QuizFacetIndex facets = new QuizFacetIndex();
+    private final BitSet freeOrdinals = new BitSet();
+    private int nextOrdinal;
+    private long totalLength;
+
+    /**
+     * @return Nombre de quiz indexés
+     */
+    int size() {
+        return ordinalsById.size();
+    }
+
+    /**
+     * @return Nombre de termes distincts
+     */
+    int termCount() {
+        return dictionary.size();
+    }
+
+    /**
+     * @param quizId ID du quiz
+     * @return Ordinal du quiz, ou null s'il n'est pas indexé
+     */
+    Integer ordinalOf(UUID quizId) {
+        return ordinalsById.get(quizId);
+    }
+
+    /**
+     * @param categoryId ID de la catégorie
+     * @return IDs des quiz indexés dans la catégorie
+     */
+    Set<UUID> quizIdsInCategory(UUID categoryId) {
+        return quizIds(facets.inCategory(categoryId));
+    }
+
+    /**
+     * @param tagId ID du tag
+     * @return IDs des quiz indexés avec le tag
+     */
+    Set<UUID> quizIdsWithTag(UUID tagId) {
+        return quizIds(facets.withTag(tagId));
+    }
+
+    private Set<UUID> quizIds(BitSet ordinals) {
+        Set<UUID> quizIds = new HashSet<>();
+        ordinals.stream().forEach(ordinal -> quizIds.add(ids[ordinal]));
+        return quizIds;
+    }
+
+    /**
+     * Recherche les quiz publiés correspondant aux critères.
+     * Avec un terme, chaque mot est recherché en préfixe, un quiz doit correspondre à tous
+     * les mots et les résultats sont classés par BM25. Sans terme, les quiz satisfaisant
+     * les filtres sont retournés du plus récent au plus ancien.
+     * 
+     * @param criteria Critères de recherche
+     * @param pageable Options de pagination (le tri est ignoré)
+     * @return Page de résultats classés (sans extraits surlignés)
+     */
+    Page<QuizSearchHit> search(QuizSearchCriteria criteria, Pageable pageable) {
+        BitSet allowed = facets.filter(criteria);
+        if (!criteria.hasTerm()) {
+            return newest(allowed, pageable);
+        }
+        return ranked(score(criteria, allowed), pageable);
+    }
+
+    /**
+     * Recherche les quiz comme {@link #search} et compte les résultats par facette comme
+     * {@link #facetCounts}, en une seule passe : les comptes portent exactement sur les quiz
+     * de la recherche.
+     * 
+     * @param criteria Critères de recherche
+     * @param pageable Options de pagination (le tri est ignoré)
+     * @return Page de résultats classés et comptes par facette
+     */
+    QuizSearchResult<QuizSearchHit> searchWithFacets(QuizSearchCriteria criteria, Pageable pageable) {
+        BitSet matches = facets.filter(criteria);
+        if (!criteria.hasTerm()) {
+            return new QuizSearchResult<>(newest(matches, pageable), facets.counts(matches));
+        }
+        
+        Map<Integer, Double> scores = score(criteria, matches);
+        BitSet scored = new BitSet();
+        scores.keySet().forEach(scored::set);
+        return new QuizSearchResult<>(ranked(scores, pageable), facets.counts(scored));
+    }
+
+    /**
+     * Compte les quiz correspondant aux critères pour chaque valeur de facette.
+     * 
+     * @param criteria Critères de recherche
+     * @return Comptes indexés par clé de facette puis par valeur
+     */
+    Map<String, Map<String, Long>> facetCounts(QuizSearchCriteria criteria) {
+        BitSet matches = facets.filter(criteria);
+        if (criteria.hasTerm()) {
+            BitSet scored = new BitSet();
+            score(criteria, matches).keySet().forEach(scored::set);
+            matches = scored;
+        }
+        return facets.counts(matches);
+    }
+
+    /**
+     * Calcule le score BM25 cumulé des quiz autorisés qui correspondent à tous les mots du terme.
+     */
+    private Map<Integer, Double> score(QuizSearchCriteria criteria, BitSet allowed) {
+        Set<String> words = new LinkedHashSet<>(QuizTokenizer.tokenize(criteria.term()));
+        Map<Integer, Double> scores = null;
+        for (String word : words) {
+            Map<Integer, Double> wordScores = scoreWord(word, allowed);
+            if (scores == null) {
+                scores = wordScores;
+            } else {
+                scores.keySet().retainAll(wordScores.keySet());
+                scores.replaceAll((ordinal, score) -> score + wordScores.get(ordinal));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores == null ? Map.of() : scores;
+    }
+
+    /**
+     * Sélectionne une page des quiz notés, par score décroissant.
+     */
+    private Page<QuizSearchHit> ranked(Map<Integer, Double> scores, Pageable pageable) {
+        if (scores.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        List<Map.Entry<Integer, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Integer, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.<Integer, Double>comparingByKey(Comparator.reverseOrder())));
+        
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<QuizSearchHit> hits = ranked.subList(from, to).stream()
+                .map(entry -> new QuizSearchHit(ids[entry.getKey()], entry.getValue(), null, null))
+                .toList();
+        return new PageImpl<>(hits, pageable, ranked.size());
+    }
+
+    /**
+     * Sélectionne une page des quiz autorisés, du plus récent au plus ancien, en ne
+     * conservant que les {@code offset + size} plus récents dans un tas.
+     */
+    private Page<QuizSearchHit> newest(BitSet allowed, Pageable pageable) {
+        int total = allowed.cardinality();
+        long wanted = Math.min(pageable.getOffset() + pageable.getPageSize(), total);
+        Comparator<Integer> recency = Comparator
+                .comparing((Integer ordinal) -> createdAts[ordinal], Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Comparator.naturalOrder());
+        
+        PriorityQueue<Integer> top = new PriorityQueue<>(recency);
+        for (int ordinal = allowed.nextSetBit(0); ordinal >= 0; ordinal = allowed.nextSetBit(ordinal + 1)) {
+            top.offer(ordinal);
+            if (top.size() > wanted) {
+                top.poll();
+            }
+        }
+        
+        List<Integer> ordered = new ArrayList<>(top);
+        ordered.sort(recency.reversed());
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        List<QuizSearchHit> hits = ordered.subList(from, ordered.size()).stream()
+                .map(ordinal -> new QuizSearchHit(ids[ordinal], 0, null, null))
+                .toList();
+        return new PageImpl<>(hits, pageable, total);
+    }
+
+    /**
+     * Calcule le score BM25 d'un mot de requête pour chaque quiz qui le contient
+     * (ou contient un terme dont il est le préfixe) et dont l'ordinal est autorisé.
+     * Seuls les {@link #MAX_PREFIX_EXPANSIONS} premiers termes du préfixe, par ordre
+     * alphabétique, sont pris en compte.
+     */
+    private Map<Integer, Double> scoreWord(String word, BitSet allowed) {
+        Map<Integer, Double> wordScores = new HashMap<>();
+        int documentCount = ordinalsById.size();
+        double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+        
+        int expansions = 0;
+        for (Postings postings : dictionary.subMap(word, true, word + Character.MAX_VALUE, false).values()) {
+            if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            double idf = Math.log(1 + (documentCount - postings.size + 0.5) / (postings.size + 0.5));
+            for (int i = 0; i < postings.size; i++) {
+                int ordinal = postings.docs[i];
+                if (!allowed.get(ordinal)) {
+                    continue;
+                }
+                int frequency = postings.freqs[i];
+                double norm = K1 * (1 - B + B * lengths[ordinal] / averageLength);
+                double score = idf * frequency * (K1 + 1) / (frequency + norm);
+                wordScores.merge(ordinal, score, Math::max);
+            }
+        }
+        return wordScores;
+    }
+
+    /**
+     * Indexe (ou réindexe) un quiz.
+     * 
+     * @param row Projection du quiz
+     * @param tagIds IDs des tags non supprimés du quiz
+     */
+    void upsert(QuizRow row, Set<UUID> tagIds) {
+        Integer existing = ordinalsById.get(row.id());
+        int ordinal;
+        if (existing != null) {
+            ordinal = existing;
+            removePostings(ordinal);
+        } else {
+            ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.nextSetBit(0);
+            freeOrdinals.clear(ordinal);
+            ensureCapacity(ordinal + 1);
+            ordinalsById.put(row.id(), ordinal);
+            ids[ordinal] = row.id();
+        }
+        
+        Map<String, Integer> frequencies = new HashMap<>();
+        QuizTokenizer.tokenize(row.title()).forEach(term -> frequencies.merge(term, TITLE_BOOST, Integer::sum));
+        QuizTokenizer.tokenize(row.description()).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            dictionary.computeIfAbsent(entry.getKey(), term -> new Postings()).put(ordinal, entry.getValue());
+            length += entry.getValue();
+        }
+        termsByOrdinal[ordinal] = frequencies.keySet().toArray(String[]::new);
+        lengths[ordinal] = length;
+        totalLength += length;
+        createdAts[ordinal] = row.createdAt();
+        facets.put(ordinal, row, tagIds);
+    }
+
+    /**
+     * Retire un quiz de l'index. L'ordinal libéré sera attribué au prochain quiz indexé.
+     * 
+     * @param quizId ID du quiz
+     */
+    void remove(UUID quizId) {
+        Integer ordinal = ordinalsById.remove(quizId);
+        if (ordinal == null) {
+            return;
+        }
+        removePostings(ordinal);
+        ids[ordinal] = null;
+        termsByOrdinal[ordinal] = null;
+        createdAts[ordinal] = null;
+        facets.remove(ordinal);
+        freeOrdinals.set(ordinal);
+    }
+
+    private void removePostings(int ordinal) {
+        for (String term : termsByOrdinal[ordinal]) {
+            Postings postings = dictionary.get(term);
+            postings.remove(ordinal);
+            if (postings.size == 0) {
+                dictionary.remove(term);
+            }
+        }
+        totalLength -= lengths[ordinal];
+        lengths[ordinal] = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        termsByOrdinal = Arrays.copyOf(termsByOrdinal, newCapacity);
+        lengths = Arrays.copyOf(lengths, newCapacity);
+        createdAts = Arrays.copyOf(createdAts, newCapacity);
+    }
+
+    /**
+     * Liste triée des ordinaux contenant un terme, avec la fréquence pondérée du terme.
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void put(int ordinal, int frequency) {
+            int index = Arrays.binarySearch(docs, 0, size, ordinal);
+            if (index >= 0) {
+                freqs[index] = frequency;
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+            System.arraycopy(freqs, insertAt, freqs, insertAt + 1, size - insertAt);
+            docs[insertAt] = ordinal;
+            freqs[insertAt] = frequency;
+            size++;
+        }
+
+        void remove(int ordinal) {
+            int index = Arrays.binarySearch(docs, 0, size, ordinal);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+            System.arraycopy(freqs, index + 1, freqs, index, size - index - 1);
+            size--;
+        }
+    }
+}
\ No newline at end of file
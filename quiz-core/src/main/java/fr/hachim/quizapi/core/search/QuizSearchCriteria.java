@@ -0,0 +1,23 @@
+package fr.hachim.quizapi.core.search;
+
+import java.util.UUID;
+
+/**
+ * Critères d'une recherche de quiz publiés.
+ * 
+ * @param term Terme de recherche libre (optionnel)
+ * @param categoryId ID de catégorie (optionnel)
+ * @param difficultyLevel Niveau de difficulté (optionnel)
+ * @param isPublic Visibilité publique (optionnel)
+ */
+public record QuizSearchCriteria(String term, UUID categoryId, String difficultyLevel, Boolean isPublic) {
+
+    /**
+     * Indique si un terme de recherche exploitable est présent.
+     * 
+     * @return true si le terme n'est ni null ni vide
+     */
+    public boolean hasTerm() {
+        return term != null && !term.isBlank();
+    }
+}
@@ -0,0 +1,14 @@
+package fr.hachim.quizapi.core.search;
+
+import java.util.UUID;
+
+/**
+ * Résultat classé d'une recherche plein texte.
+ * 
+ * @param quizId ID du quiz trouvé
+ * @param rank Score de pertinence (plus élevé = plus pertinent)
+ * @param titleHighlight Titre avec les termes trouvés encadrés de {@code <mark>} (optionnel)
+ * @param descriptionHighlight Extraits de la description avec les termes trouvés (optionnel)
+ */
+public record QuizSearchHit(UUID quizId, double rank, String titleHighlight, String descriptionHighlight) {
+}
@@ -0,0 +1,371 @@
+package fr.hachim.quizapi.core.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import fr.hachim.quizapi.core.event.EntityChangedEvent;
+import fr.hachim.quizapi.core.repository.QuizRepository;
+import fr.hachim.quizapi.core.repository.QuizTagRepository;
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Index inversé en mémoire des quiz non supprimés, utilisé lorsque
+ * {@code quizapi.search.engine=memory}. Le contenu de l'index (postings, facettes) est porté
+ * par {@link QuizInvertedIndex} ; cette classe le charge, le maintient à jour et en synchronise l'accès.
+ * 
+ * L'index est construit au démarrage puis mis à jour après la validation des transactions
+ * d'écriture, pour le quiz modifié ou pour les quiz d'un tag ou d'une catégorie modifiés.
+ * Les résultats sont classés par BM25, les occurrences dans le titre comptant double.
+ * 
+ * Les mises à jour lisent le primaire et sont sérialisées, lecture comprise : une mise à jour
+ * plus ancienne ne peut pas écraser une plus récente. Une modification en masse (import)
+ * reconstruit l'index en arrière-plan : le nouvel index est chargé sans verrou, les recherches
+ * continuant sur l'ancien, puis substitué en une fois.
+ * 
+ * Les filtres (catégorie, difficulté, statut, visibilité) sont évalués sur les bitmaps
+ * de {@link QuizFacetIndex}, ce qui permet aussi de servir les recherches sans terme
+ * et les comptes par facette sans requête en base.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "quizapi.search", name = "engine", havingValue = "memory")
+public class QuizSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final QuizRepository quizRepository;
+    private final QuizTagRepository quizTagRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final TaskExecutor taskExecutor;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private QuizInvertedIndex index = new QuizInvertedIndex();
+    /** IDs rechargés pendant une reconstruction, à rejouer sur le nouvel index ; null hors reconstruction. */
+    private Set<UUID> refreshedDuringRebuild;
+
+    public QuizSearchIndex(QuizRepository quizRepository, QuizTagRepository quizTagRepository,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor) {
+        this.quizRepository = quizRepository;
+        this.quizTagRepository = quizTagRepository;
+        this.taskExecutor = taskExecutor;
+        // Transaction propre : après un commit, la transaction de l'écriture est terminée
+        // et ne doit pas être rejointe ; en lecture-écriture, donc sur le primaire
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.primaryTransaction.setReadOnly(false);
+    }
+
+    /**
+     * Construit un nouvel index à partir de la base de données, par lots parcourus par curseur,
+     * puis le substitue à l'index courant. Le chargement se fait sans verrou : les recherches
+     * sont servies par l'ancien index et les mises à jour unitaires continuent ; celles qui
+     * surviennent pendant le chargement sont rejouées sur le nouvel index avant la substitution.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            updateLock.lock();
+            try {
+                refreshedDuringRebuild = new HashSet<>();
+            } finally {
+                updateLock.unlock();
+            }
+            
+            QuizInvertedIndex rebuilt = null;
+            try {
+                rebuilt = load();
+            } finally {
+                swap(rebuilt);
+            }
+            log.info("Index de recherche construit : {} quiz, {} termes en {} ms",
+                    rebuilt.size(), rebuilt.termCount(), System.currentTimeMillis() - start);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Charge tous les quiz non supprimés dans un nouvel index, hors de tout verrou.
+     */
+    private QuizInvertedIndex load() {
+        QuizInvertedIndex loaded = new QuizInvertedIndex();
+        return onPrimary(() -> {
+            List<QuizRow> batch = quizRepository.findRowsByKeyset(Limit.of(LOAD_BATCH_SIZE));
+            while (!batch.isEmpty()) {
+                Map<UUID, Set<UUID>> tagIdsByQuizId = findTagIds(batch);
+                batch.forEach(row -> loaded.upsert(row, tagIdsByQuizId.getOrDefault(row.id(), Set.of())));
+                if (batch.size() < LOAD_BATCH_SIZE) {
+                    break;
+                }
+                QuizRow last = batch.get(batch.size() - 1);
+                batch = quizRepository.findRowsByKeysetAfter(last.createdAt(), last.id(), Limit.of(LOAD_BATCH_SIZE));
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * Termine une reconstruction : rejoue sur le nouvel index les mises à jour survenues pendant
+     * son chargement, puis le substitue à l'index courant en une seule étape.
+     * 
+     * @param rebuilt Le nouvel index, ou null si le chargement a échoué (l'index courant est conservé)
+     */
+    private void swap(QuizInvertedIndex rebuilt) {
+        updateLock.lock();
+        try {
+            Set<UUID> replayed = refreshedDuringRebuild;
+            refreshedDuringRebuild = null;
+            if (rebuilt == null) {
+                return;
+            }
+            if (!replayed.isEmpty()) {
+                apply(rebuilt, read(() -> replayed));
+            }
+            lock.writeLock().lock();
+            try {
+                index = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Programme une reconstruction sur l'exécuteur de tâches, hors du thread de la requête.
+     * Les demandes reçues avant son démarrage sont regroupées en une seule reconstruction.
+     */
+    private void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        taskExecutor.execute(() -> {
+            rebuildScheduled.set(false);
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Reconstruction de l'index de recherche impossible", e);
+            }
+        });
+    }
+
+    /**
+     * Met à jour l'index après la validation d'une modification de quiz, de tag ou de catégorie.
+     * Une modification en masse (import) reconstruit l'index entier, en arrière-plan. Pour un tag
+     * ou une catégorie, les quiz réindexés sont ceux que l'index y rattache et ceux que la base y
+     * rattache : un tag supprimé disparaît ainsi des facettes de ses quiz, un tag restauré y réapparaît.
+     * 
+     * @param event L'événement de modification
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        switch (event.entityType()) {
+            case QUIZ -> refresh(event.entityUuid());
+            case QUIZ_BATCH -> scheduleRebuild();
+            case TAG -> {
+                UUID tagId = event.entityUuid();
+                refreshAll(() -> linkedQuizIds(index.quizIdsWithTag(tagId),
+                        quizTagRepository.findQuizIdsByTagId(tagId)));
+            }
+            case CATEGORY -> {
+                UUID categoryId = event.entityUuid();
+                refreshAll(() -> linkedQuizIds(index.quizIdsInCategory(categoryId),
+                        quizRepository.findIdsByCategoryId(categoryId)));
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Recharge un quiz depuis la base et met à jour ses entrées dans l'index.
+     * Un quiz supprimé ou introuvable est retiré de l'index.
+     * La lecture et la mise à jour se font sous le verrou des mises à jour : la lecture
+     * suivante voit donc au moins l'état lu par celle-ci. Les recherches ne sont bloquées
+     * que pendant la mise à jour.
+     * 
+     * @param quizId ID du quiz
+     */
+    public void refresh(UUID quizId) {
+        refreshAll(() -> Set.of(quizId));
+    }
+
+    /**
+     * Recharge des quiz depuis la base, par lots, et met à jour leurs entrées dans l'index.
+     * Les IDs sont calculés sous le verrou des mises à jour, dans la transaction de lecture :
+     * ils peuvent donc s'appuyer sur l'état de l'index, que seules les mises à jour modifient.
+     * 
+     * @param quizIds IDs des quiz à recharger
+     */
+    private void refreshAll(Supplier<Set<UUID>> quizIds) {
+        updateLock.lock();
+        try {
+            Snapshot snapshot = read(quizIds);
+            if (refreshedDuringRebuild != null) {
+                refreshedDuringRebuild.addAll(snapshot.quizIds());
+            }
+            lock.writeLock().lock();
+            try {
+                apply(index, snapshot);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Lit des quiz et les IDs de leurs tags sur le primaire, par lots.
+     */
+    private Snapshot read(Supplier<Set<UUID>> quizIds) {
+        return onPrimary(() -> {
+            List<UUID> requested = List.copyOf(quizIds.get());
+            List<QuizRow> rows = new ArrayList<>(requested.size());
+            Map<UUID, Set<UUID>> tagIdsByQuizId = new HashMap<>();
+            for (int from = 0; from < requested.size(); from += LOAD_BATCH_SIZE) {
+                List<QuizRow> batch = quizRepository.findRowsByIds(
+                        requested.subList(from, Math.min(from + LOAD_BATCH_SIZE, requested.size())));
+                rows.addAll(batch);
+                tagIdsByQuizId.putAll(findTagIds(batch));
+            }
+            return new Snapshot(requested, rows, tagIdsByQuizId);
+        });
+    }
+
+    /**
+     * Applique des quiz lus en base à un index : les quiz lus sont indexés, les autres retirés.
+     */
+    private static void apply(QuizInvertedIndex target, Snapshot snapshot) {
+        Set<UUID> removed = new HashSet<>(snapshot.quizIds());
+        for (QuizRow row : snapshot.rows()) {
+            target.upsert(row, snapshot.tagIdsByQuizId().getOrDefault(row.id(), Set.of()));
+            removed.remove(row.id());
+        }
+        removed.forEach(target::remove);
+    }
+
+    /**
+     * Réunit les quiz rattachés dans l'index et ceux rattachés en base.
+     * Doit être appelé sous le verrou des mises à jour.
+     */
+    private static Set<UUID> linkedQuizIds(Set<UUID> indexed, List<UUID> linked) {
+        Set<UUID> quizIds = new HashSet<>(indexed);
+        quizIds.addAll(linked);
+        return quizIds;
+    }
+
+    /**
+     * Recherche les quiz publiés correspondant aux critères.
+     * Avec un terme, chaque mot est recherché en préfixe, un quiz doit correspondre à tous
+     * les mots et les résultats sont classés par BM25. Sans terme, les quiz satisfaisant
+     * les filtres sont retournés du plus récent au plus ancien.
+     * 
+     * @param criteria Critères de recherche
+     * @param pageable Options de pagination (le tri est ignoré)
+     * @return Page de résultats classés (sans extraits surlignés)
+     */
+    public Page<QuizSearchHit> search(QuizSearchCriteria criteria, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            return index.search(criteria, pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Recherche les quiz comme {@link #search} et compte les résultats par facette comme
+     * {@link #facetCounts}, en une seule passe sous le même verrou de lecture : les comptes
+     * portent exactement sur les quiz de la recherche.
+     * 
+     * @param criteria Critères de recherche
+     * @param pageable Options de pagination (le tri est ignoré)
+     * @return Page de résultats classés et comptes par facette
+     */
+    public QuizSearchResult<QuizSearchHit> searchWithFacets(QuizSearchCriteria criteria, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            return index.searchWithFacets(criteria, pageable);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compte les quiz correspondant aux critères pour chaque valeur de facette.
+     * 
+     * @param criteria Critères de recherche
+     * @return Comptes indexés par clé de facette puis par valeur
+     */
+    public Map<String, Map<String, Long>> facetCounts(QuizSearchCriteria criteria) {
+        lock.readLock().lock();
+        try {
+            return index.facetCounts(criteria);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Exécute des lectures dans une nouvelle transaction en lecture-écriture, donc sur le primaire :
+     * l'index est mis à jour juste après un commit qu'un réplica n'a peut-être pas encore rejoué.
+     */
+    private <T> T onPrimary(Supplier<T> reads) {
+        return primaryTransaction.execute(status -> reads.get());
+    }
+
+    /**
+     * Charge les IDs des tags non supprimés d'un lot de quiz.
+     */
+    private Map<UUID, Set<UUID>> findTagIds(List<QuizRow> rows) {
+        Map<UUID, Set<UUID>> tagIdsByQuizId = new HashMap<>();
+        if (rows.isEmpty()) {
+            return tagIdsByQuizId;
+        }
+        for (Object[] pair : quizTagRepository.findActiveTagIdsByQuizIds(rows.stream().map(QuizRow::id).toList())) {
+            tagIdsByQuizId.computeIfAbsent((UUID) pair[0], id -> new HashSet<>()).add((UUID) pair[1]);
+        }
+        return tagIdsByQuizId;
+    }
+
+    /**
+     * Quiz lus en base pour une mise à jour de l'index, avec les IDs de leurs tags.
+     * Les IDs demandés sans ligne correspondante sont ceux des quiz supprimés.
+     */
+    private record Snapshot(List<UUID> quizIds, List<QuizRow> rows, Map<UUID, Set<UUID>> tagIdsByQuizId) {
+    }
+}
\ No newline at end of file
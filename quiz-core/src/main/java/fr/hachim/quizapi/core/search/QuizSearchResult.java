@@ -0,0 +1,15 @@
+package fr.hachim.quizapi.core.search;
+
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+
+/**
+ * Page de résultats d'une recherche et comptes par facette, calculés sur le même état des données.
+ * 
+ * @param <T> Type des résultats
+ * @param page Page de résultats
+ * @param facets Comptes indexés par clé de facette puis par valeur
+ */
+public record QuizSearchResult<T>(Page<T> page, Map<String, Map<String, Long>> facets) {
+}
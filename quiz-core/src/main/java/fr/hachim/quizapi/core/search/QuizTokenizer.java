@@ -0,0 +1,39 @@
+package fr.hachim.quizapi.core.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Découpe un texte en termes indexables pour {@link QuizSearchIndex}.
+ * Le texte est mis en minuscules et débarrassé de ses accents ; les termes
+ * d'un seul caractère sont conservés (langages « C » ou « R », notes « A » à « F »).
+ */
+public final class QuizTokenizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private QuizTokenizer() {
+    }
+
+    /**
+     * Découpe un texte en termes normalisés, dans leur ordre d'apparition.
+     * 
+     * @param text Le texte à découper (peut être null)
+     * @return La liste des termes (avec répétitions)
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(SEPARATORS.split(normalized))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+}
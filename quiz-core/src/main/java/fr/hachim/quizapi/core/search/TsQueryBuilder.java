@@ -0,0 +1,32 @@
+package fr.hachim.quizapi.core.search;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Construit une expression {@code tsquery} PostgreSQL à partir d'un terme saisi par un utilisateur.
+ * Chaque mot devient un préfixe ({@code mot:*}) et les mots sont combinés par ET.
+ * Les caractères ayant un sens dans la syntaxe tsquery sont éliminés, ce qui rend
+ * l'expression sûre à passer à {@code to_tsquery}.
+ */
+public final class TsQueryBuilder {
+
+    private TsQueryBuilder() {
+    }
+
+    /**
+     * Convertit un terme de recherche en expression tsquery préfixée.
+     * 
+     * @param term Le terme saisi
+     * @return L'expression tsquery, ou une chaîne vide si le terme ne contient aucun mot
+     */
+    public static String prefixQuery(String term) {
+        if (term == null) {
+            return "";
+        }
+        return Arrays.stream(term.split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word.toLowerCase() + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
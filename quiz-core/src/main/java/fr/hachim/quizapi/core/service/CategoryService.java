@@ -5,6 +5,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import fr.hachim.quizapi.core.model.Category;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
 
 /**
  * Service pour gérer les opérations sur les catégories.
@@ -27,7 +28,16 @@ public interface CategoryService {
     Optional<Category> findCategoryById(UUID id);
     
     /**
-     * Récupère les catégories racines (sans parent).
+     * Récupère la version d'une catégorie sans la charger.
+     * 
+     * @param id ID de la catégorie
+     * @return La version (optionnel, vide si la catégorie n'existe pas)
+     */
+    Optional<ResourceVersion> findCategoryVersion(UUID id);
+    
+    /**
+     * Récupère les catégories racines (sans parent ou dont le parent est supprimé),
+     * avec leur nombre de quiz.
      * 
      * @return Liste de catégories racines
      */
@@ -96,4 +106,29 @@ public interface CategoryService {
      * @return Liste des catégories parentes (de la plus proche à la racine)
      */
     List<Category> getCategoryAncestors(UUID categoryId);
+    
+    /**
+     * Récupère tous les descendants d'une catégorie (sous-catégories à tous les niveaux).
+     * 
+     * @param categoryId ID de la catégorie
+     * @return Liste des descendants, en profondeur d'abord
+     */
+    List<Category> findDescendants(UUID categoryId);
+    
+    /**
+     * Récupère le fil d'Ariane d'une catégorie.
+     * 
+     * @param categoryId ID de la catégorie
+     * @return Liste des catégories de la racine à la catégorie incluse
+     */
+    List<Category> getCategoryBreadcrumbs(UUID categoryId);
+    
+    /**
+     * Vérifie si une catégorie se trouve sous une autre, à n'importe quel niveau.
+     * 
+     * @param categoryId ID de la catégorie testée
+     * @param ancestorId ID de l'ancêtre supposé
+     * @return true si la catégorie est un descendant de l'ancêtre, false sinon
+     */
+    boolean isDescendantOf(UUID categoryId, UUID ancestorId);
 }
\ No newline at end of file
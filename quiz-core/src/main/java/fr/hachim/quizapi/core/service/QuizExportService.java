@@ -0,0 +1,28 @@
+package fr.hachim.quizapi.core.service;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import fr.hachim.quizapi.core.exporter.QuizExportRecord;
+
+/**
+ * Service d'export du catalogue de quiz.
+ */
+public interface QuizExportService {
+
+    /**
+     * Parcourt les quiz non supprimés correspondant aux filtres, avec leur catégorie et leurs tags.
+     * Les quiz sont lus par curseur et transmis un par un : la mémoire consommée
+     * ne dépend pas de la taille du catalogue.
+     * 
+     * @param searchTerm Terme de recherche plein texte, comme pour la recherche (optionnel)
+     * @param categoryId ID de catégorie (optionnel)
+     * @param difficultyLevel Niveau de difficulté (optionnel)
+     * @param isPublic Visibilité publique (optionnel)
+     * @param status Statut (optionnel)
+     * @param sink Reçoit chaque quiz exporté
+     * @return Nombre de quiz exportés
+     */
+    long exportQuizzes(String searchTerm, UUID categoryId, String difficultyLevel, Boolean isPublic,
+            String status, Consumer<QuizExportRecord> sink);
+}
\ No newline at end of file
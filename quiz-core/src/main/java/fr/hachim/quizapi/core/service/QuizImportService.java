@@ -0,0 +1,27 @@
+package fr.hachim.quizapi.core.service;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+import fr.hachim.quizapi.core.importer.ImportFormat;
+import fr.hachim.quizapi.core.importer.ImportProgress;
+import fr.hachim.quizapi.core.importer.ImportReport;
+
+/**
+ * Service d'import en masse de quiz.
+ */
+public interface QuizImportService {
+
+    /**
+     * Importe les quiz d'un flux NDJSON ou CSV en une seule transaction.
+     * Les enregistrements sont lus au fil du flux et chargés par COPY dans une table de transit,
+     * puis fusionnés dans les quiz, tags et associations. Les enregistrements invalides
+     * sont rejetés sans interrompre l'import.
+     * 
+     * @param input Le flux à importer
+     * @param format Le format du flux
+     * @param progress Reçoit l'avancement pendant la lecture et au début de la fusion
+     * @return Le bilan de l'import
+     */
+    ImportReport importQuizzes(InputStream input, ImportFormat format, Consumer<ImportProgress> progress);
+}
\ No newline at end of file
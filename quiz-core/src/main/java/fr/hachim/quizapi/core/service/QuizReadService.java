@@ -0,0 +1,21 @@
+package fr.hachim.quizapi.core.service;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import fr.hachim.quizapi.core.dto.QuizDTO;
+
+/**
+ * Service de lecture des quiz assemblés pour l'API, servis depuis le cache.
+ */
+public interface QuizReadService {
+
+    /**
+     * Récupère un quiz assemblé (catégorie et tags compris) par son ID.
+     * Le résultat est mis en cache et invalidé après la validation de toute modification du quiz.
+     * 
+     * @param id ID du quiz
+     * @return Le quiz trouvé (optionnel)
+     */
+    Optional<QuizDTO> findQuizDTOById(UUID id);
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package fr.hachim.quizapi.core.service;
+
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import fr.hachim.quizapi.core.search.QuizSearchCriteria;
+import fr.hachim.quizapi.core.search.QuizSearchHit;
+import fr.hachim.quizapi.core.search.QuizSearchResult;
+
+/**
+ * Service de recherche plein texte sur les quiz publiés.
+ */
+public interface QuizSearchService {
+
+    /**
+     * Recherche les quiz publiés correspondant aux critères, classés par pertinence.
+     * Le terme est interprété mot par mot, en correspondance de préfixe.
+     * 
+     * @param criteria Critères de recherche (le terme est obligatoire, sauf si {@link #indexesFilters()})
+     * @param pageable Options de pagination (le tri est ignoré)
+     * @return Page de résultats classés
+     */
+    Page<QuizSearchHit> search(QuizSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Indique si le moteur sait aussi servir les recherches sans terme (filtres seuls,
+     * du plus récent au plus ancien) et calculer les comptes par facette sans requête en base.
+     * 
+     * @return true si les filtres sont évalués par le moteur
+     */
+    boolean indexesFilters();
+
+    /**
+     * Compte les quiz publiés correspondant aux critères pour chaque valeur de facette
+     * (catégorie, niveau de difficulté, visibilité, tag).
+     * 
+     * @param criteria Critères de recherche (terme optionnel)
+     * @return Comptes indexés par clé de facette puis par valeur
+     */
+    Map<String, Map<String, Long>> facetCounts(QuizSearchCriteria criteria);
+
+    /**
+     * Recherche les quiz comme {@link #search} et compte les résultats par facette comme
+     * {@link #facetCounts}, sur le même état des données.
+     * 
+     * @param criteria Critères de recherche (le terme est obligatoire, sauf si {@link #indexesFilters()})
+     * @param pageable Options de pagination (le tri est ignoré)
+     * @return Page de résultats classés et comptes par facette
+     */
+    QuizSearchResult<QuizSearchHit> searchWithFacets(QuizSearchCriteria criteria, Pageable pageable);
+}
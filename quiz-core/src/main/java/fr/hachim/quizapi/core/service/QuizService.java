@@ -9,6 +9,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import fr.hachim.quizapi.core.model.Quiz;
+import fr.hachim.quizapi.core.pagination.KeysetCursor;
+import fr.hachim.quizapi.core.repository.projection.QuizField;
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
+import fr.hachim.quizapi.core.search.QuizSearchResult;
+import jakarta.persistence.Tuple;
 
 /**
  * Service pour gérer les opérations sur les quiz.
@@ -23,6 +29,33 @@ public interface QuizService {
      */
     Page<Quiz> findAllQuizzes(Pageable pageable);
     
+    /**
+     * Récupère les quiz non supprimés sous forme de projections en lecture seule,
+     * sans hydratation d'entités.
+     * 
+     * @param pageable Options de pagination
+     * @return Page de projections
+     */
+    Page<QuizRow> findAllQuizRows(Pageable pageable);
+    
+    /**
+     * Parcourt les quiz non supprimés par curseur, du plus récent au plus ancien.
+     * 
+     * @param after Position de départ (null pour la première page)
+     * @param limit Nombre maximum de lignes
+     * @return Liste de projections
+     */
+    List<QuizRow> findQuizRowsAfter(KeysetCursor after, int limit);
+    
+    /**
+     * Récupère des projections de quiz par leurs IDs, dans l'ordre des IDs fournis.
+     * Les IDs inconnus ou supprimés sont ignorés.
+     * 
+     * @param ids IDs des quiz
+     * @return Liste de projections
+     */
+    List<QuizRow> findQuizRowsByIds(List<UUID> ids);
+    
     /**
      * Récupère un quiz par son ID.
      * 
@@ -31,8 +64,18 @@ public interface QuizService {
      */
     Optional<Quiz> findQuizById(UUID id);
     
+    /**
+     * Récupère la version d'un quiz (quiz, catégorie et tags) sans le charger.
+     * 
+     * @param id ID du quiz
+     * @return La version (optionnel, vide si le quiz n'existe pas)
+     */
+    Optional<ResourceVersion> findQuizVersion(UUID id);
+    
     /**
      * Recherche des quiz par critères multiples avec pagination.
+     * Lorsqu'un terme est fourni, la recherche est plein texte et les résultats
+     * sont classés par pertinence.
      * 
      * @param searchTerm Terme de recherche
      * @param categoryId ID de catégorie (optionnel)
@@ -43,6 +86,34 @@ public interface QuizService {
      */
     Page<Quiz> searchQuizzes(String searchTerm, UUID categoryId, String difficultyLevel, Boolean isPublic, Pageable pageable);
     
+    /**
+     * Recherche des quiz par critères multiples et retourne des projections en lecture seule.
+     * Lorsqu'un terme est fourni, la recherche est plein texte et les résultats
+     * sont classés par pertinence.
+     * 
+     * @param searchTerm Terme de recherche
+     * @param categoryId ID de catégorie (optionnel)
+     * @param difficultyLevel Niveau de difficulté (optionnel)
+     * @param isPublic Visibilité publique (optionnel)
+     * @param pageable Options de pagination
+     * @return Page de projections correspondantes
+     */
+    Page<QuizRow> searchQuizRows(String searchTerm, UUID categoryId, String difficultyLevel, Boolean isPublic, Pageable pageable);
+    
+    /**
+     * Recherche des quiz comme {@link #searchQuizRows} et compte les résultats par facette
+     * sur le même état des données.
+     * 
+     * @param searchTerm Terme de recherche
+     * @param categoryId ID de catégorie (optionnel)
+     * @param difficultyLevel Niveau de difficulté (optionnel)
+     * @param isPublic Visibilité publique (optionnel)
+     * @param pageable Options de pagination
+     * @return Page de projections correspondantes et comptes par facette
+     */
+    QuizSearchResult<QuizRow> searchQuizRowsWithFacets(String searchTerm, UUID categoryId, String difficultyLevel,
+            Boolean isPublic, Pageable pageable);
+    
     /**
      * Récupère les quiz populaires.
      * 
@@ -69,6 +140,26 @@ public interface QuizService {
      */
     Page<Quiz> findQuizzesByCategory(UUID categoryId, Pageable pageable);
     
+    /**
+     * Récupère les quiz d'une catégorie et de toutes ses sous-catégories, sous forme de projections.
+     * 
+     * @param categoryId ID de la catégorie racine du sous-arbre
+     * @param pageable Options de pagination
+     * @return Page de projections
+     */
+    Page<QuizRow> findQuizzesInSubtree(UUID categoryId, Pageable pageable);
+    
+    /**
+     * Récupère les quiz non supprimés en ne lisant que les champs demandés
+     * (voir {@link QuizField}). Les tags ne sont pas chargés.
+     * 
+     * @param fields Les champs à sélectionner
+     * @param categoryId ID de la catégorie racine du sous-arbre, ou null pour tous les quiz
+     * @param pageable Options de pagination
+     * @return Page de tuples indexés par nom de champ
+     */
+    Page<Tuple> findSparseQuizRows(Set<QuizField> fields, UUID categoryId, Pageable pageable);
+    
     /**
      * Récupère les quiz avec un tag spécifique.
      * 
@@ -112,11 +203,11 @@ public interface QuizService {
     boolean deleteQuiz(UUID id);
     
     /**
-     * Met à jour les tags associés à un quiz.
+     * Met à jour les tags associés à un quiz en n'appliquant que la différence avec l'existant.
      * 
      * @param quizId ID du quiz
      * @param tagIds IDs des tags à associer
-     * @return Ensemble des IDs de tags qui ont été associés
+     * @return Ensemble des IDs de tags désormais associés au quiz
      */
     Set<UUID> updateQuizTags(UUID quizId, Set<UUID> tagIds);
     
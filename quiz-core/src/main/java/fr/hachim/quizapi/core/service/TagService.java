@@ -1,10 +1,14 @@
 package fr.hachim.quizapi.core.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import fr.hachim.quizapi.core.model.Tag;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
 
 /**
  * Service pour gérer les opérations sur les tags.
@@ -26,6 +30,14 @@ public interface TagService {
      */
     Optional<Tag> findTagById(UUID id);
     
+    /**
+     * Récupère la version d'un tag sans le charger.
+     * 
+     * @param id ID du tag
+     * @return La version (optionnel, vide si le tag n'existe pas)
+     */
+    Optional<ResourceVersion> findTagVersion(UUID id);
+    
     /**
      * Récupère un tag par son nom.
      * 
@@ -51,13 +63,23 @@ public interface TagService {
     List<Tag> findPopularTags(int limit);
     
     /**
-     * Récupère les tags associés à un quiz.
+     * Récupère les tags associés à un quiz, sur le primaire : appelé juste après
+     * une écriture, il doit voir les tags qu'elle vient d'associer.
      * 
      * @param quizId ID du quiz
      * @return Liste des tags du quiz
      */
     List<Tag> findTagsByQuizId(UUID quizId);
     
+    /**
+     * Récupère les tags de plusieurs quiz en une seule requête.
+     * Les quiz sans tag n'apparaissent pas dans la map retournée.
+     * 
+     * @param quizIds IDs des quiz
+     * @return Map des tags indexés par ID de quiz
+     */
+    Map<UUID, Set<Tag>> findTagsByQuizIds(Collection<UUID> quizIds);
+    
     /**
      * Crée un nouveau tag.
      * 
@@ -66,6 +88,15 @@ public interface TagService {
      */
     Tag createTag(Tag tag);
     
+    /**
+     * Crée plusieurs tags en une seule transaction, par batchs JDBC.
+     * Les noms sont vérifiés en une seule requête.
+     * 
+     * @param tags Les tags à créer
+     * @return Les tags créés, dans l'ordre d'entrée
+     */
+    List<Tag> createTags(List<Tag> tags);
+    
     /**
      * Met à jour un tag existant.
      * 
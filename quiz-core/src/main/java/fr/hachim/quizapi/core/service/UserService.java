@@ -8,6 +8,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import fr.hachim.quizapi.core.model.User;
+import fr.hachim.quizapi.core.pagination.KeysetCursor;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
 
 /**
  * Service pour gérer les opérations sur les utilisateurs.
@@ -15,13 +17,23 @@ import fr.hachim.quizapi.core.model.User;
 public interface UserService {
 
     /**
-     * Récupère tous les utilisateurs avec pagination.
+     * Récupère tous les utilisateurs non supprimés avec pagination,
+     * comme le parcours par curseur ({@link #findUsersAfter}).
      * 
      * @param pageable Options de pagination
      * @return Page d'utilisateurs
      */
     Page<User> findAllUsers(Pageable pageable);
     
+    /**
+     * Parcourt les utilisateurs non supprimés par curseur, par nom d'utilisateur croissant.
+     * 
+     * @param after Position de départ (null pour la première page)
+     * @param limit Nombre maximum de lignes
+     * @return Liste d'utilisateurs
+     */
+    List<User> findUsersAfter(KeysetCursor after, int limit);
+    
     /**
      * Récupère un utilisateur par son ID.
      * 
@@ -30,6 +42,14 @@ public interface UserService {
      */
     Optional<User> findUserById(UUID id);
     
+    /**
+     * Récupère la version d'un utilisateur sans le charger.
+     * 
+     * @param id ID de l'utilisateur
+     * @return La version (optionnel, vide si l'utilisateur n'existe pas)
+     */
+    Optional<ResourceVersion> findUserVersion(UUID id);
+    
     /**
      * Récupère un utilisateur par son nom d'utilisateur.
      * 
@@ -63,6 +83,15 @@ public interface UserService {
      */
     User createUser(User user);
     
+    /**
+     * Crée plusieurs utilisateurs en une seule transaction, par batchs JDBC.
+     * Les noms d'utilisateur et adresses email sont vérifiés en une seule requête chacun.
+     * 
+     * @param users Les utilisateurs à créer
+     * @return Les utilisateurs créés, dans l'ordre d'entrée
+     */
+    List<User> createUsers(List<User> users);
+    
     /**
      * Met à jour un utilisateur existant.
      * 
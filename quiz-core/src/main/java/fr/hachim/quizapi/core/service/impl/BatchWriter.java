@@ -0,0 +1,47 @@
+package fr.hachim.quizapi.core.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Écriture en masse d'entités par tranches de la taille du batch JDBC.
+ * Chaque tranche est envoyée en un seul aller-retour puis ses entités sont détachées du contexte
+ * de persistance pour que la mémoire reste bornée quel que soit le volume ; les autres entités
+ * gérées par la transaction de l'appelant le restent.
+ * Doit être appelé dans une transaction existante.
+ */
+@Component
+class BatchWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    /**
+     * Insère les entités par tranches.
+     * 
+     * @param repository Le repository des entités
+     * @param entities Les entités à insérer
+     * @return Les entités insérées, dans l'ordre d'entrée
+     */
+    <T> List<T> insertAll(JpaRepository<T, ?> repository, List<T> entities) {
+        List<T> saved = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += batchSize) {
+            List<T> chunk = entities.subList(from, Math.min(from + batchSize, entities.size()));
+            List<T> savedChunk = repository.saveAll(chunk);
+            entityManager.flush();
+            savedChunk.forEach(entityManager::detach);
+            saved.addAll(savedChunk);
+        }
+        return saved;
+    }
+}
\ No newline at end of file
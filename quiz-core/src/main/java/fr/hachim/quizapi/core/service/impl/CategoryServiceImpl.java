@@ -1,49 +1,82 @@
 package fr.hachim.quizapi.core.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import fr.hachim.quizapi.core.category.CategoryNode;
+import fr.hachim.quizapi.core.category.CategoryTreeHolder;
+import fr.hachim.quizapi.core.event.EntityChangedEvent;
 import fr.hachim.quizapi.core.model.Category;
 import fr.hachim.quizapi.core.repository.CategoryRepository;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
 import fr.hachim.quizapi.core.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 
 /**
  * Implémentation du service CategoryService.
+ * Les lectures de la hiérarchie sont servies par l'instantané en mémoire de l'arbre des catégories ;
+ * une catégorie lue par son ID l'est sur le primaire, pour être visible dès sa création.
  */
 @Service
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeHolder categoryTreeHolder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public List<Category> findAllCategories() {
         return categoryRepository.findByDeletedAtIsNull();
     }
 
     @Override
+    @Transactional
     public Optional<Category> findCategoryById(UUID id) {
         return categoryRepository.findById(id)
                 .filter(category -> category.getDeletedAt() == null);
     }
 
     @Override
+    public Optional<ResourceVersion> findCategoryVersion(UUID id) {
+        return categoryRepository.findVersionTimestamps(id).stream()
+                .findFirst()
+                .map(timestamps -> ResourceVersion.latest(id, timestamps));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Category> findRootCategories() {
-        return categoryRepository.findByParentIdIsNullAndDeletedAtIsNull();
+        List<Category> roots = toCategories(categoryTreeHolder.current().roots());
+        if (roots.isEmpty()) {
+            return roots;
+        }
+        
+        // Les compteurs suivent chaque écriture de quiz : ils sont lus en base, pas dans l'arbre
+        Map<UUID, Long> quizCounts = new HashMap<>();
+        for (Object[] pair : categoryRepository.findQuizCountsByIds(roots.stream().map(Category::getId).toList())) {
+            quizCounts.put((UUID) pair[0], (Long) pair[1]);
+        }
+        roots.forEach(category -> category.setQuizCount(quizCounts.get(category.getId())));
+        return roots;
     }
 
     @Override
     public List<Category> findSubcategories(UUID parentId) {
-        return categoryRepository.findByParentIdAndDeletedAtIsNull(parentId);
+        return toCategories(categoryTreeHolder.current().children(parentId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Category> searchCategoriesByName(String name) {
         return categoryRepository.findByNameContainingIgnoreCaseAndDeletedAtIsNull(name);
     }
@@ -51,13 +84,17 @@ public class CategoryServiceImpl implements CategoryService {
     @Override
     @Transactional
     public Category createCategory(Category category) {
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(EntityChangedEvent.category(savedCategory.getId()));
+        return savedCategory;
     }
 
     @Override
     @Transactional
     public Category updateCategory(Category category) {
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(EntityChangedEvent.category(savedCategory.getId()));
+        return savedCategory;
     }
 
     @Override
@@ -65,36 +102,61 @@ public class CategoryServiceImpl implements CategoryService {
     public boolean deleteCategory(UUID id) {
         return findCategoryById(id)
                 .map(category -> {
-                    // Vérifier si la catégorie a des sous-catégories
-                    if (hasSubcategories(id)) {
+                    // Vérifier si la catégorie a des sous-catégories (en base : l'arbre peut
+                    // ne pas encore refléter une écriture récente d'une autre instance)
+                    if (categoryRepository.countSubcategories(id) > 0) {
                         return false;
                     }
                     
                     // Vérifier s'il y a des quiz dans cette catégorie
-                    if (countQuizzesByCategory(id) > 0) {
+                    if (category.getQuizCount() != null && category.getQuizCount() > 0) {
                         return false;
                     }
                     
                     // Soft delete
                     category.setDeletedAt(LocalDateTime.now());
                     categoryRepository.save(category);
+                    eventPublisher.publishEvent(EntityChangedEvent.category(id));
                     return true;
                 })
                 .orElse(false);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Long countQuizzesByCategory(UUID categoryId) {
-        return categoryRepository.countQuizzesByCategory(categoryId);
+        Long quizCount = categoryRepository.countQuizzesByCategory(categoryId);
+        return quizCount != null ? quizCount : 0L;
     }
 
     @Override
     public boolean hasSubcategories(UUID categoryId) {
-        return categoryRepository.countSubcategories(categoryId) > 0;
+        return categoryTreeHolder.current().hasChildren(categoryId);
     }
 
     @Override
     public List<Category> getCategoryAncestors(UUID categoryId) {
-        return categoryRepository.findAncestorHierarchy(categoryId);
+        return toCategories(categoryTreeHolder.current().ancestors(categoryId));
+    }
+
+    @Override
+    public List<Category> findDescendants(UUID categoryId) {
+        return toCategories(categoryTreeHolder.current().descendants(categoryId));
+    }
+
+    @Override
+    public List<Category> getCategoryBreadcrumbs(UUID categoryId) {
+        return toCategories(categoryTreeHolder.current().breadcrumbs(categoryId));
+    }
+
+    @Override
+    public boolean isDescendantOf(UUID categoryId, UUID ancestorId) {
+        return categoryTreeHolder.current().isDescendantOf(categoryId, ancestorId);
+    }
+
+    private List<Category> toCategories(List<CategoryNode> nodes) {
+        return nodes.stream()
+                .map(CategoryNode::toCategory)
+                .toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package fr.hachim.quizapi.core.service.impl;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import fr.hachim.quizapi.core.search.QuizSearchCriteria;
+import fr.hachim.quizapi.core.search.QuizSearchHit;
+import fr.hachim.quizapi.core.search.QuizSearchIndex;
+import fr.hachim.quizapi.core.search.QuizSearchResult;
+import fr.hachim.quizapi.core.service.QuizSearchService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implémentation de QuizSearchService servie depuis l'index inversé en mémoire.
+ * Activée par {@code quizapi.search.engine=memory} ; les résultats ne comportent pas d'extraits surlignés.
+ */
+@Service
+@ConditionalOnProperty(prefix = "quizapi.search", name = "engine", havingValue = "memory")
+@RequiredArgsConstructor
+public class InMemoryQuizSearchService implements QuizSearchService {
+
+    private final QuizSearchIndex quizSearchIndex;
+
+    @Override
+    public Page<QuizSearchHit> search(QuizSearchCriteria criteria, Pageable pageable) {
+        return quizSearchIndex.search(criteria, pageable);
+    }
+
+    @Override
+    public boolean indexesFilters() {
+        return true;
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> facetCounts(QuizSearchCriteria criteria) {
+        return quizSearchIndex.facetCounts(criteria);
+    }
+
+    @Override
+    public QuizSearchResult<QuizSearchHit> searchWithFacets(QuizSearchCriteria criteria, Pageable pageable) {
+        return quizSearchIndex.searchWithFacets(criteria, pageable);
+    }
+}
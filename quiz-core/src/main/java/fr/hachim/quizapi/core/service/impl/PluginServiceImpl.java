@@ -1,10 +1,12 @@
 package fr.hachim.quizapi.core.service.impl;
 
+import fr.hachim.quizapi.core.event.EntityChangedEvent;
 import fr.hachim.quizapi.core.model.Plugin;
 import fr.hachim.quizapi.core.plugin.spi.QuizPlugin;
 import fr.hachim.quizapi.core.repository.PluginRepository;
 import fr.hachim.quizapi.core.service.PluginService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ import java.util.stream.Collectors;
 public class PluginServiceImpl implements PluginService {
 
     private final PluginRepository pluginRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public List<Plugin> getAllPlugins() {
@@ -50,7 +53,9 @@ public class PluginServiceImpl implements PluginService {
         plugin.setEnabled(quizPlugin.isEnabled());
         plugin.setInstalledAt(LocalDateTime.now());
         
-        return pluginRepository.save(plugin);
+        Plugin savedPlugin = pluginRepository.save(plugin);
+        eventPublisher.publishEvent(EntityChangedEvent.plugin(savedPlugin.getId()));
+        return savedPlugin;
     }
 
     @Override
@@ -75,7 +80,9 @@ public class PluginServiceImpl implements PluginService {
                 plugin.setLastDisabledAt(LocalDateTime.now());
             }
             
-            return pluginRepository.save(plugin);
+            Plugin savedPlugin = pluginRepository.save(plugin);
+            eventPublisher.publishEvent(EntityChangedEvent.plugin(savedPlugin.getId()));
+            return savedPlugin;
         } else {
             return registerPlugin(quizPlugin);
         }
@@ -111,6 +118,7 @@ public class PluginServiceImpl implements PluginService {
                 existingPlugin.setEnabled(false);
                 existingPlugin.setLastDisabledAt(LocalDateTime.now());
                 pluginRepository.save(existingPlugin);
+                eventPublisher.publishEvent(EntityChangedEvent.plugin(existingPlugin.getId()));
             }
         }
         
@@ -123,7 +131,9 @@ public class PluginServiceImpl implements PluginService {
         return getPluginById(id)
                 .map(plugin -> {
                     plugin.setConfig(config);
-                    return pluginRepository.save(plugin);
+                    Plugin savedPlugin = pluginRepository.save(plugin);
+                    eventPublisher.publishEvent(EntityChangedEvent.plugin(id));
+                    return savedPlugin;
                 })
                 .orElseThrow(() -> new IllegalArgumentException("Plugin non trouvé: " + id));
     }
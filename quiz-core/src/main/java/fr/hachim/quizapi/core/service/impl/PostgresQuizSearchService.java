@@ -0,0 +1,94 @@
+package fr.hachim.quizapi.core.service.impl;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.hachim.quizapi.core.repository.QuizRepository;
+import fr.hachim.quizapi.core.repository.projection.QuizFacetCountRow;
+import fr.hachim.quizapi.core.search.QuizFacet;
+import fr.hachim.quizapi.core.search.QuizSearchCriteria;
+import fr.hachim.quizapi.core.search.QuizSearchHit;
+import fr.hachim.quizapi.core.search.QuizSearchResult;
+import fr.hachim.quizapi.core.search.TsQueryBuilder;
+import fr.hachim.quizapi.core.service.QuizSearchService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implémentation de QuizSearchService s'appuyant sur la recherche plein texte PostgreSQL
+ * (colonne {@code search_vector} indexée en GIN, classement par {@code ts_rank_cd}).
+ * Moteur par défaut ({@code quizapi.search.engine=postgres}).
+ */
+@Service
+@ConditionalOnProperty(prefix = "quizapi.search", name = "engine", havingValue = "postgres", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresQuizSearchService implements QuizSearchService {
+
+    private final QuizRepository quizRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<QuizSearchHit> search(QuizSearchCriteria criteria, Pageable pageable) {
+        String query = TsQueryBuilder.prefixQuery(criteria.term());
+        if (query.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        
+        List<QuizSearchHit> hits = quizRepository.searchFullText(query,
+                        criteria.categoryId(), criteria.difficultyLevel(), criteria.isPublic(),
+                        pageable.getPageSize(), pageable.getOffset())
+                .stream()
+                .map(row -> new QuizSearchHit(row.getId(), row.getRank(),
+                        row.getTitleHighlight(), row.getDescriptionHighlight()))
+                .toList();
+        
+        return PageableExecutionUtils.getPage(hits, pageable, () -> quizRepository.countFullText(query,
+                criteria.categoryId(), criteria.difficultyLevel(), criteria.isPublic()));
+    }
+
+    @Override
+    public boolean indexesFilters() {
+        return false;
+    }
+
+    /**
+     * Calcule tous les comptes par facette en une seule requête {@code GROUPING SETS}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Map<String, Long>> facetCounts(QuizSearchCriteria criteria) {
+        Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+        for (QuizFacet facet : QuizFacet.values()) {
+            counts.put(facet.key(), new LinkedHashMap<>());
+        }
+        
+        String query = criteria.hasTerm() ? TsQueryBuilder.prefixQuery(criteria.term()) : null;
+        if (query != null && query.isEmpty()) {
+            return counts;
+        }
+        
+        for (QuizFacetCountRow row : quizRepository.countFacets(query,
+                criteria.categoryId(), criteria.difficultyLevel(), criteria.isPublic())) {
+            counts.get(row.getFacet()).put(row.getValue(), row.getCount());
+        }
+        return counts;
+    }
+
+    /**
+     * Exécute la recherche et le calcul des facettes dans une même transaction
+     * {@code REPEATABLE READ} : les deux requêtes lisent le même instantané de la base.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public QuizSearchResult<QuizSearchHit> searchWithFacets(QuizSearchCriteria criteria, Pageable pageable) {
+        return new QuizSearchResult<>(search(criteria, pageable), facetCounts(criteria));
+    }
+}
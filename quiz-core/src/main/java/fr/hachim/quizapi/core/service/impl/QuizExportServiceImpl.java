@@ -0,0 +1,85 @@
+package fr.hachim.quizapi.core.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.hachim.quizapi.core.exporter.QuizExportRecord;
+import fr.hachim.quizapi.core.repository.QuizRepository;
+import fr.hachim.quizapi.core.repository.QuizTagRepository;
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+import fr.hachim.quizapi.core.search.TsQueryBuilder;
+import fr.hachim.quizapi.core.service.QuizExportService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implémentation du service QuizExportService.
+ * Les tags sont chargés par tranches de quiz pendant le parcours du curseur.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizExportServiceImpl implements QuizExportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final QuizRepository quizRepository;
+    private final QuizTagRepository quizTagRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportQuizzes(String searchTerm, UUID categoryId, String difficultyLevel, Boolean isPublic,
+            String status, Consumer<QuizExportRecord> sink) {
+        // Même correspondance que la recherche plein texte : un terme sans aucun mot ne trouve rien
+        String query = searchTerm == null || searchTerm.isBlank() ? null : TsQueryBuilder.prefixQuery(searchTerm);
+        if (query != null && query.isEmpty()) {
+            return 0;
+        }
+        
+        long exported = 0;
+        try (Stream<QuizRow> rows = quizRepository.streamRowsForExport(
+                query, categoryId, difficultyLevel, isPublic, status)) {
+            Iterator<QuizRow> iterator = rows.iterator();
+            List<QuizRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    emit(chunk, sink);
+                    exported += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        return exported;
+    }
+
+    private void emit(List<QuizRow> chunk, Consumer<QuizExportRecord> sink) {
+        Map<UUID, List<String>> tagNamesByQuizId = new HashMap<>();
+        for (Object[] row : quizTagRepository.findActiveTagNamesByQuizIds(chunk.stream().map(QuizRow::id).toList())) {
+            tagNamesByQuizId.computeIfAbsent((UUID) row[0], id -> new ArrayList<>())
+                    .add((String) row[1]);
+        }
+        for (QuizRow row : chunk) {
+            sink.accept(new QuizExportRecord(
+                    row.id(),
+                    row.title(),
+                    row.description(),
+                    row.difficultyLevel(),
+                    row.timeLimit(),
+                    row.passingScore(),
+                    row.status(),
+                    row.isPublic(),
+                    row.categoryId(),
+                    row.categoryName(),
+                    tagNamesByQuizId.getOrDefault(row.id(), List.of()),
+                    row.createdAt()));
+        }
+    }
+}
\ No newline at end of file
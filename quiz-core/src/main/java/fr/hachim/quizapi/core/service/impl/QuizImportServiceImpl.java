@@ -0,0 +1,268 @@
+package fr.hachim.quizapi.core.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+
+import fr.hachim.quizapi.core.event.EntityChangedEvent;
+import fr.hachim.quizapi.core.exception.BusinessException;
+import fr.hachim.quizapi.core.importer.ImportDictionary;
+import fr.hachim.quizapi.core.importer.ImportFormat;
+import fr.hachim.quizapi.core.importer.ImportProgress;
+import fr.hachim.quizapi.core.importer.ImportReport;
+import fr.hachim.quizapi.core.importer.QuizImportReader;
+import fr.hachim.quizapi.core.importer.QuizImportRecord;
+import fr.hachim.quizapi.core.importer.QuizStagingWriter;
+import fr.hachim.quizapi.core.repository.CategoryRepository;
+import fr.hachim.quizapi.core.repository.TagRepository;
+import fr.hachim.quizapi.core.service.QuizImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implémentation du service QuizImportService.
+ * Les noms de catégories et de tags sont résolus en mémoire ; la base ne voit qu'un COPY
+ * suivi, depuis la table de transit, de la restauration des tags supprimés réutilisés et de
+ * trois INSERT ... SELECT.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizImportServiceImpl implements QuizImportService {
+
+    private static final int PROGRESS_INTERVAL = 5000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_TAG_NAME_LENGTH = 50;
+    private static final BigDecimal MAX_PASSING_SCORE = BigDecimal.valueOf(100);
+    private static final Set<String> DIFFICULTY_LEVELS = Set.of("BEGINNER", "EASY", "MEDIUM", "HARD", "EXPERT");
+    private static final Set<String> STATUSES = Set.of("DRAFT", "PUBLISHED", "ARCHIVED", "REVIEWING");
+
+    /**
+     * Restaure les tags supprimés dont l'import reprend le nom : le nom reste réservé par la
+     * contrainte d'unicité, l'insertion ne pourrait pas les recréer.
+     */
+    private static final String RESTORE_TAGS_SQL =
+            "UPDATE tags t SET deleted_at = NULL " +
+            "FROM (SELECT DISTINCT n.name FROM import_quizzes s CROSS JOIN LATERAL unnest(s.tag_names) AS n(name)) n " +
+            "WHERE t.name = n.name AND t.deleted_at IS NOT NULL " +
+            "RETURNING t.id";
+
+    private static final String MERGE_TAGS_SQL =
+            "INSERT INTO tags (name, created_by) " +
+            "SELECT DISTINCT n.name, ? FROM import_quizzes s CROSS JOIN LATERAL unnest(s.tag_names) AS n(name) " +
+            "ON CONFLICT (name) DO NOTHING";
+
+    private static final String MERGE_QUIZZES_SQL =
+            "INSERT INTO quizzes (id, title, description, difficulty_level, time_limit, passing_score, " +
+            "status, is_public, category_id, created_by) " +
+            "SELECT id, title, description, difficulty_level, time_limit, passing_score, " +
+            "status, is_public, category_id, ? FROM import_quizzes";
+
+    private static final String MERGE_QUIZ_TAGS_SQL =
+            "INSERT INTO quiz_tags (quiz_id, tag_id) " +
+            "SELECT DISTINCT s.id, t.id FROM import_quizzes s CROSS JOIN LATERAL unnest(s.tag_names) AS n(name) " +
+            "JOIN tags t ON t.name = n.name AND t.deleted_at IS NULL " +
+            "ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final QuizImportReader quizImportReader;
+    private final AuditorAware<UUID> auditorProvider;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public ImportReport importQuizzes(InputStream input, ImportFormat format, Consumer<ImportProgress> progress) {
+        long start = System.currentTimeMillis();
+        UUID importId = UUID.randomUUID();
+        UUID createdBy = auditorProvider.getCurrentAuditor()
+                .orElseThrow(() -> new BusinessException("Impossible de déterminer l'auteur de l'import"));
+        ImportDictionary dictionary = new ImportDictionary(
+                categoryRepository.findByDeletedAtIsNull(), tagRepository.findByDeletedAtIsNull());
+        
+        jdbcTemplate.execute(QuizStagingWriter.CREATE_TABLE_SQL);
+        Tally tally = jdbcTemplate.execute((ConnectionCallback<Tally>) connection ->
+                copy(connection, input, format, dictionary, progress));
+        
+        progress.accept(ImportProgress.merging(tally.read, tally.rejected));
+        List<UUID> restoredTagIds = jdbcTemplate.queryForList(RESTORE_TAGS_SQL, UUID.class);
+        long tagsCreated = jdbcTemplate.update(MERGE_TAGS_SQL, createdBy);
+        long quizzesImported = jdbcTemplate.update(MERGE_QUIZZES_SQL, createdBy);
+        long tagLinks = jdbcTemplate.update(MERGE_QUIZ_TAGS_SQL);
+        
+        restoredTagIds.forEach(tagId -> eventPublisher.publishEvent(EntityChangedEvent.tag(tagId)));
+        if (quizzesImported > 0) {
+            eventPublisher.publishEvent(EntityChangedEvent.quizBatch(importId));
+        }
+        log.info("Import {} : {} quiz importés, {} rejetés, {} tags créés, {} restaurés en {} ms",
+                importId, quizzesImported, tally.rejected, tagsCreated, restoredTagIds.size(),
+                System.currentTimeMillis() - start);
+        return new ImportReport(importId, tally.read, tally.rejected, quizzesImported,
+                tagsCreated, restoredTagIds.size(), tagLinks, List.copyOf(tally.errors));
+    }
+
+    /**
+     * Lit le flux enregistrement par enregistrement et envoie les quiz valides dans la table
+     * de transit par un unique COPY.
+     */
+    private Tally copy(Connection connection, InputStream input, ImportFormat format,
+            ImportDictionary dictionary, Consumer<ImportProgress> progress) throws SQLException {
+        Tally tally = new Tally();
+        PGCopyOutputStream copyStream = new PGCopyOutputStream(
+                connection.unwrap(PGConnection.class), QuizStagingWriter.COPY_SQL);
+        try (MappingIterator<QuizImportRecord> records = quizImportReader.open(input, format);
+                QuizStagingWriter staging = new QuizStagingWriter(copyStream)) {
+            while (records.hasNextValue()) {
+                QuizImportRecord record = records.nextValue();
+                tally.read++;
+                String error = validate(record, dictionary);
+                if (error != null) {
+                    tally.reject(error);
+                } else {
+                    staging.write(normalize(record, dictionary), categoryId(record, dictionary));
+                }
+                if (tally.read % PROGRESS_INTERVAL == 0) {
+                    progress.accept(ImportProgress.parsing(tally.read, tally.rejected));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            cancel(copyStream);
+            throw new BusinessException("Enregistrement " + (tally.read + 1) + " illisible : " + e.getOriginalMessage());
+        } catch (IOException e) {
+            cancel(copyStream);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            cancel(copyStream);
+            throw e;
+        }
+        return tally;
+    }
+
+    /**
+     * Vérifie un enregistrement avant son envoi : les contraintes de la table quizzes
+     * feraient sinon échouer le COPY entier.
+     * 
+     * @return Le motif du rejet, ou null si l'enregistrement est valide
+     */
+    private String validate(QuizImportRecord record, ImportDictionary dictionary) {
+        if (record.title() == null || record.title().isBlank()) {
+            return "titre manquant";
+        }
+        if (record.title().strip().length() > MAX_TITLE_LENGTH) {
+            return "titre trop long";
+        }
+        if (record.difficultyLevel() != null && !DIFFICULTY_LEVELS.contains(upper(record.difficultyLevel()))) {
+            return "niveau de difficulté inconnu : " + record.difficultyLevel();
+        }
+        if (record.status() != null && !STATUSES.contains(upper(record.status()))) {
+            return "statut inconnu : " + record.status();
+        }
+        if (record.timeLimit() != null && record.timeLimit() < 0) {
+            return "durée limite négative";
+        }
+        if (record.passingScore() != null
+                && (record.passingScore().signum() < 0 || record.passingScore().compareTo(MAX_PASSING_SCORE) > 0)) {
+            return "score de réussite hors de [0, 100]";
+        }
+        if (record.category() != null && !record.category().isBlank()) {
+            if (dictionary.isAmbiguousCategory(record.category())) {
+                return "plusieurs catégories portent le nom " + record.category();
+            }
+            if (dictionary.categoryId(record.category()) == null) {
+                return "catégorie inconnue : " + record.category();
+            }
+        }
+        if (record.tags() != null) {
+            for (String tag : record.tags()) {
+                if (tag != null && tag.strip().length() > MAX_TAG_NAME_LENGTH) {
+                    return "nom de tag trop long : " + tag;
+                }
+            }
+        }
+        return null;
+    }
+
+    private QuizImportRecord normalize(QuizImportRecord record, ImportDictionary dictionary) {
+        Set<String> tagNames = new LinkedHashSet<>();
+        if (record.tags() != null) {
+            record.tags().stream()
+                    .filter(tag -> tag != null && !tag.isBlank())
+                    .map(dictionary::tagName)
+                    .forEach(tagNames::add);
+        }
+        return new QuizImportRecord(
+                record.title().strip(),
+                record.description(),
+                record.difficultyLevel() != null ? upper(record.difficultyLevel()) : null,
+                record.timeLimit(),
+                record.passingScore(),
+                record.status() != null ? upper(record.status()) : "DRAFT",
+                Boolean.TRUE.equals(record.isPublic()),
+                record.category(),
+                List.copyOf(tagNames));
+    }
+
+    private UUID categoryId(QuizImportRecord record, ImportDictionary dictionary) {
+        if (record.category() == null || record.category().isBlank()) {
+            return null;
+        }
+        return dictionary.categoryId(record.category());
+    }
+
+    private static String upper(String value) {
+        return value.strip().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Abandonne un COPY en cours pour rendre la connexion à la transaction, qui sera annulée.
+     */
+    private static void cancel(PGCopyOutputStream copyStream) {
+        if (copyStream.isActive()) {
+            try {
+                copyStream.cancelCopy();
+            } catch (SQLException e) {
+                log.warn("Impossible d'annuler le COPY d'import", e);
+            }
+        }
+    }
+
+    /**
+     * Compteurs d'un import en cours.
+     */
+    private static class Tally {
+        private long read;
+        private long rejected;
+        private final List<String> errors = new ArrayList<>();
+
+        private void reject(String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("Enregistrement " + read + " : " + reason);
+            }
+        }
+    }
+}
\ No newline at end of file
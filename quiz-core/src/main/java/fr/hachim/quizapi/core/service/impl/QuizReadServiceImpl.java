@@ -0,0 +1,65 @@
+package fr.hachim.quizapi.core.service.impl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.hachim.quizapi.core.cache.QuizCacheInvalidator;
+import fr.hachim.quizapi.core.config.CacheConfig;
+import fr.hachim.quizapi.core.dto.QuizDTO;
+import fr.hachim.quizapi.core.mapper.QuizMapper;
+import fr.hachim.quizapi.core.service.QuizReadService;
+import fr.hachim.quizapi.core.service.QuizService;
+import fr.hachim.quizapi.core.service.TagService;
+
+/**
+ * Implémentation du service QuizReadService.
+ * Un défaut de cache coûte deux requêtes : la projection du quiz et ses tags, lues sur le
+ * primaire (transaction en écriture) pour ne jamais mettre en cache un état du réplica en retard.
+ * Un quiz chargé pendant une invalidation est retiré du cache aussitôt après y avoir été mis :
+ * il peut refléter l'état antérieur au commit, qui serait sinon servi jusqu'à la modification suivante.
+ */
+@Service
+public class QuizReadServiceImpl implements QuizReadService {
+
+    private final QuizService quizService;
+    private final TagService tagService;
+    private final QuizMapper quizMapper;
+    private final QuizCacheInvalidator cacheInvalidator;
+    private final Cache cache;
+
+    public QuizReadServiceImpl(QuizService quizService, TagService tagService, QuizMapper quizMapper,
+            QuizCacheInvalidator cacheInvalidator, CacheManager cacheManager) {
+        this.quizService = quizService;
+        this.tagService = tagService;
+        this.quizMapper = quizMapper;
+        this.cacheInvalidator = cacheInvalidator;
+        this.cache = cacheManager.getCache(CacheConfig.QUIZZES);
+    }
+
+    @Override
+    @Transactional
+    public Optional<QuizDTO> findQuizDTOById(UUID id) {
+        QuizDTO cached = cache.get(id, QuizDTO.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        long loadGeneration = cacheInvalidator.generation();
+        Optional<QuizDTO> loaded = quizService.findQuizRowsByIds(List.of(id)).stream()
+                .findFirst()
+                .map(row -> quizMapper.toDTOWithTags(row, tagService.findTagsByQuizIds(List.of(id))));
+        loaded.ifPresent(quiz -> {
+            cache.put(id, quiz);
+            if (cacheInvalidator.generation() != loadGeneration) {
+                cache.evict(id);
+            }
+        });
+        return loaded;
+    }
+}
\ No newline at end of file
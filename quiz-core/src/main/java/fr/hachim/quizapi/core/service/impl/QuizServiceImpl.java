@@ -1,28 +1,47 @@
 package fr.hachim.quizapi.core.service.impl;
 
+import fr.hachim.quizapi.core.event.EntityChangedEvent;
 import fr.hachim.quizapi.core.exception.BusinessException;
 import fr.hachim.quizapi.core.exception.ResourceNotFoundException;
 import fr.hachim.quizapi.core.model.Quiz;
-import fr.hachim.quizapi.core.model.QuizTag;
-import fr.hachim.quizapi.core.model.QuizTagId;
+import fr.hachim.quizapi.core.pagination.KeysetCursor;
 import fr.hachim.quizapi.core.repository.QuizRepository;
 import fr.hachim.quizapi.core.repository.QuizTagRepository;
+import fr.hachim.quizapi.core.repository.TagRepository;
+import fr.hachim.quizapi.core.repository.projection.QuizField;
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
+import fr.hachim.quizapi.core.search.QuizSearchCriteria;
+import fr.hachim.quizapi.core.search.QuizSearchHit;
+import fr.hachim.quizapi.core.search.QuizSearchResult;
+import fr.hachim.quizapi.core.service.QuizSearchService;
 import fr.hachim.quizapi.core.service.QuizService;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implémentation du service QuizService.
+ * Les listes et recherches sont en lecture seule (servies par le réplica s'il est configuré) ;
+ * {@link #findQuizById} reste sur le primaire, son résultat étant modifié puis réenregistré.
  */
 @Service
 @RequiredArgsConstructor
@@ -30,40 +49,144 @@ public class QuizServiceImpl implements QuizService {
 
     private final QuizRepository quizRepository;
     private final QuizTagRepository quizTagRepository;
+    private final TagRepository tagRepository;
+    private final QuizSearchService quizSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Quiz> findAllQuizzes(Pageable pageable) {
         return quizRepository.findAll(pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Page<QuizRow> findAllQuizRows(Pageable pageable) {
+        return quizRepository.findAllRows(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<QuizRow> findQuizRowsAfter(KeysetCursor after, int limit) {
+        if (after == null) {
+            return quizRepository.findRowsByKeyset(Limit.of(limit));
+        }
+        return quizRepository.findRowsByKeysetAfter(after.sortKeyAsDateTime(), after.id(), Limit.of(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<QuizRow> findQuizRowsByIds(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, QuizRow> rowsById = quizRepository.findRowsByIds(ids).stream()
+                .collect(Collectors.toMap(QuizRow::id, Function.identity()));
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public Optional<Quiz> findQuizById(UUID id) {
         return quizRepository.findById(id)
                 .filter(quiz -> quiz.getDeletedAt() == null);
     }
 
     @Override
+    public Optional<ResourceVersion> findQuizVersion(UUID id) {
+        return quizRepository.findVersionTimestamps(id).stream()
+                .findFirst()
+                .map(timestamps -> ResourceVersion.latest(id, timestamps));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<Quiz> searchQuizzes(String searchTerm, UUID categoryId, String difficultyLevel, Boolean isPublic, Pageable pageable) {
-        return quizRepository.findQuizzesByAdvancedSearch(searchTerm, categoryId, difficultyLevel, isPublic, pageable);
+        QuizSearchCriteria criteria = new QuizSearchCriteria(searchTerm, categoryId, difficultyLevel, isPublic);
+        if (!criteria.hasTerm() && !quizSearchService.indexesFilters()) {
+            return quizRepository.findQuizzesByAdvancedSearch(categoryId, difficultyLevel, isPublic, pageable);
+        }
+        
+        Page<QuizSearchHit> hits = quizSearchService.search(criteria, pageable);
+        List<UUID> ids = hits.map(QuizSearchHit::quizId).getContent();
+        Map<UUID, Quiz> quizzesById = quizRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Quiz::getId, Function.identity()));
+        List<Quiz> quizzes = ids.stream()
+                .map(quizzesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(quizzes, pageable, hits.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<QuizRow> searchQuizRows(String searchTerm, UUID categoryId, String difficultyLevel, Boolean isPublic, Pageable pageable) {
+        QuizSearchCriteria criteria = new QuizSearchCriteria(searchTerm, categoryId, difficultyLevel, isPublic);
+        if (!criteria.hasTerm() && !quizSearchService.indexesFilters()) {
+            return quizRepository.findRowsByAdvancedSearch(categoryId, difficultyLevel, isPublic, pageable);
+        }
+        
+        Page<QuizSearchHit> hits = quizSearchService.search(criteria, pageable);
+        List<QuizRow> rows = findQuizRowsByIds(hits.map(QuizSearchHit::quizId).getContent());
+        return new PageImpl<>(rows, pageable, hits.getTotalElements());
+    }
+
+    /**
+     * En {@code REPEATABLE READ}, la page et les comptes lus en base le sont sur le même instantané ;
+     * l'index en mémoire les calcule sous un même verrou.
+     */
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public QuizSearchResult<QuizRow> searchQuizRowsWithFacets(String searchTerm, UUID categoryId,
+            String difficultyLevel, Boolean isPublic, Pageable pageable) {
+        QuizSearchCriteria criteria = new QuizSearchCriteria(searchTerm, categoryId, difficultyLevel, isPublic);
+        if (!criteria.hasTerm() && !quizSearchService.indexesFilters()) {
+            return new QuizSearchResult<>(
+                    quizRepository.findRowsByAdvancedSearch(categoryId, difficultyLevel, isPublic, pageable),
+                    quizSearchService.facetCounts(criteria));
+        }
+        
+        QuizSearchResult<QuizSearchHit> hits = quizSearchService.searchWithFacets(criteria, pageable);
+        List<QuizRow> rows = findQuizRowsByIds(hits.page().map(QuizSearchHit::quizId).getContent());
+        return new QuizSearchResult<>(new PageImpl<>(rows, pageable, hits.page().getTotalElements()), hits.facets());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Quiz> findPopularQuizzes(int limit) {
         return quizRepository.findPopularQuizzes(limit);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Quiz> findQuizzesByUser(UUID userId, Pageable pageable) {
         // Utiliser une méthode plus simple si le repository ne supporte pas JpaSpecificationExecutor
         return quizRepository.findByCreatedByAndDeletedAtIsNull(userId, pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<Quiz> findQuizzesByCategory(UUID categoryId, Pageable pageable) {
         return quizRepository.findByCategoryIdAndDeletedAtIsNull(categoryId, pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Page<QuizRow> findQuizzesInSubtree(UUID categoryId, Pageable pageable) {
+        return quizRepository.findRowsInCategorySubtree(categoryId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Tuple> findSparseQuizRows(Set<QuizField> fields, UUID categoryId, Pageable pageable) {
+        return quizRepository.findSparseRows(fields, categoryId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Page<Quiz> findQuizzesByTag(UUID tagId, Pageable pageable) {
         // Pour cette méthode, nous devons ajouter une méthode personnalisée au repository
         return quizRepository.findQuizzesByTagId(tagId, pageable);
@@ -72,20 +195,26 @@ public class QuizServiceImpl implements QuizService {
     @Override
     @Transactional
     public Quiz createQuiz(Quiz quiz) {
-        return quizRepository.save(quiz);
+        Quiz savedQuiz = quizRepository.save(quiz);
+        eventPublisher.publishEvent(EntityChangedEvent.quiz(savedQuiz.getId()));
+        return savedQuiz;
     }
 
     @Override
     @Transactional
     public Quiz updateQuiz(Quiz quiz) {
-        return quizRepository.save(quiz);
+        Quiz savedQuiz = quizRepository.save(quiz);
+        eventPublisher.publishEvent(EntityChangedEvent.quiz(savedQuiz.getId()));
+        return savedQuiz;
     }
 
     @Override
     @Transactional
     public Quiz updateQuizStatus(Quiz quiz, String status) {
         quiz.setStatus(status);
-        return quizRepository.save(quiz);
+        Quiz savedQuiz = quizRepository.save(quiz);
+        eventPublisher.publishEvent(EntityChangedEvent.quiz(savedQuiz.getId()));
+        return savedQuiz;
     }
 
     @Override
@@ -96,6 +225,7 @@ public class QuizServiceImpl implements QuizService {
                     // Soft delete
                     quiz.setDeletedAt(LocalDateTime.now());
                     quizRepository.save(quiz);
+                    eventPublisher.publishEvent(EntityChangedEvent.quiz(id));
                     return true;
                 })
                 .orElse(false);
@@ -104,25 +234,40 @@ public class QuizServiceImpl implements QuizService {
     @Override
     @Transactional
     public Set<UUID> updateQuizTags(UUID quizId, Set<UUID> tagIds) {
-        Quiz quiz = findQuizById(quizId)
-                .orElseThrow(() -> new ResourceNotFoundException("Quiz", quizId));
-        
-        // Supprimer tous les tags existants
-        quizTagRepository.deleteByQuizId(quizId);
+        if (findQuizById(quizId).isEmpty()) {
+            throw new ResourceNotFoundException("Quiz", quizId);
+        }
+        Set<UUID> wanted = tagIds != null ? tagIds : Set.of();
         
-        // Ajouter les nouveaux tags
-        Set<UUID> addedTags = new HashSet<>();
-        if (tagIds != null && !tagIds.isEmpty()) {
-            for (UUID tagId : tagIds) {
-                QuizTag quizTag = new QuizTag();
-                quizTag.setQuizId(quizId);
-                quizTag.setTagId(tagId);
-                quizTagRepository.save(quizTag);
-                addedTags.add(tagId);
+        // Vérifier l'existence des tags en une seule requête plutôt que d'attendre une erreur de FK
+        if (!wanted.isEmpty()) {
+            Set<UUID> unknownTags = new HashSet<>(wanted);
+            unknownTags.removeAll(tagRepository.findActiveIdsByIdIn(wanted));
+            if (!unknownTags.isEmpty()) {
+                throw new BusinessException("Tags introuvables : " + unknownTags);
             }
         }
         
-        return addedTags;
+        // Ne toucher qu'à la différence entre les tags actuels et les tags demandés
+        Set<UUID> current = quizTagRepository.findTagIdsByQuizId(quizId);
+        Set<UUID> removed = new HashSet<>(current);
+        removed.removeAll(wanted);
+        Set<UUID> added = new HashSet<>(wanted);
+        added.removeAll(current);
+        
+        if (!removed.isEmpty()) {
+            quizTagRepository.deleteByQuizIdAndTagIdIn(quizId, removed);
+        }
+        if (!added.isEmpty()) {
+            quizTagRepository.insertTags(quizId, added);
+        }
+        
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            // Les tags font partie de la représentation du quiz : sa version doit changer
+            quizRepository.touch(quizId);
+            eventPublisher.publishEvent(EntityChangedEvent.quiz(quizId));
+        }
+        return new HashSet<>(wanted);
     }
 
     @Override
@@ -137,7 +282,9 @@ public class QuizServiceImpl implements QuizService {
         }
         
         quiz.setStatus("PUBLISHED");
-        return quizRepository.save(quiz);
+        Quiz savedQuiz = quizRepository.save(quiz);
+        eventPublisher.publishEvent(EntityChangedEvent.quiz(id));
+        return savedQuiz;
     }
 
     @Override
@@ -147,7 +294,9 @@ public class QuizServiceImpl implements QuizService {
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz", id));
         
         quiz.setStatus("ARCHIVED");
-        return quizRepository.save(quiz);
+        Quiz savedQuiz = quizRepository.save(quiz);
+        eventPublisher.publishEvent(EntityChangedEvent.quiz(id));
+        return savedQuiz;
     }
 
     @Override
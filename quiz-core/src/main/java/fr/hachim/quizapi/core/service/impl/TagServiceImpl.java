@@ -1,22 +1,32 @@
 package fr.hachim.quizapi.core.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import fr.hachim.quizapi.core.event.EntityChangedEvent;
 import fr.hachim.quizapi.core.exception.BusinessException;
 import fr.hachim.quizapi.core.model.Tag;
 import fr.hachim.quizapi.core.repository.QuizTagRepository;
 import fr.hachim.quizapi.core.repository.TagRepository;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
 import fr.hachim.quizapi.core.service.TagService;
 import lombok.RequiredArgsConstructor;
 
 /**
  * Implémentation du service TagService.
+ * Un tag lu par son ID, comme les tags d'un quiz relus après son écriture,
+ * l'est sur le primaire pour être visible dès sa création.
  */
 @Service
 @RequiredArgsConstructor
@@ -24,38 +34,67 @@ public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
     private final QuizTagRepository quizTagRepository;
+    private final BatchWriter batchWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional(readOnly = true)
     public List<Tag> findAllTags() {
         return tagRepository.findByDeletedAtIsNull();
     }
 
     @Override
+    @Transactional
     public Optional<Tag> findTagById(UUID id) {
         return tagRepository.findById(id)
                 .filter(tag -> tag.getDeletedAt() == null);
     }
 
+    @Override
+    public Optional<ResourceVersion> findTagVersion(UUID id) {
+        return tagRepository.findVersionTimestamps(id).stream()
+                .findFirst()
+                .map(timestamps -> ResourceVersion.latest(id, timestamps));
+    }
+
     @Override
     public Optional<Tag> findTagByName(String name) {
         return tagRepository.findByNameAndDeletedAtIsNull(name);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Tag> searchTagsByName(String name) {
         return tagRepository.findByNameContainingIgnoreCaseAndDeletedAtIsNull(name);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Tag> findPopularTags(int limit) {
         return tagRepository.findPopularTags(limit);
     }
 
     @Override
+    @Transactional
     public List<Tag> findTagsByQuizId(UUID quizId) {
         return tagRepository.findTagsByQuizId(quizId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, Set<Tag>> findTagsByQuizIds(Collection<UUID> quizIds) {
+        Map<UUID, Set<Tag>> tagsByQuizId = new HashMap<>();
+        if (quizIds == null || quizIds.isEmpty()) {
+            return tagsByQuizId;
+        }
+        
+        for (Object[] row : tagRepository.findTagsByQuizIds(quizIds)) {
+            tagsByQuizId.computeIfAbsent((UUID) row[0], id -> new HashSet<>())
+                    .add((Tag) row[1]);
+        }
+        return tagsByQuizId;
+    }
+
     @Override
     @Transactional
     public Tag createTag(Tag tag) {
@@ -64,7 +103,33 @@ public class TagServiceImpl implements TagService {
             throw new BusinessException("Un tag avec ce nom existe déjà");
         }
         
-        return tagRepository.save(tag);
+        Tag savedTag = tagRepository.save(tag);
+        eventPublisher.publishEvent(EntityChangedEvent.tag(savedTag.getId()));
+        return savedTag;
+    }
+
+    @Override
+    @Transactional
+    public List<Tag> createTags(List<Tag> tags) {
+        if (tags.isEmpty()) {
+            return List.of();
+        }
+        
+        // Vérifier les noms en une seule requête, doublons du lot compris
+        Set<String> names = new HashSet<>();
+        for (Tag tag : tags) {
+            if (!names.add(tag.getName().toLowerCase())) {
+                throw new BusinessException("Le nom de tag " + tag.getName() + " apparaît plusieurs fois");
+            }
+        }
+        Set<String> takenNames = tagRepository.findTakenNamesIgnoreCase(names);
+        if (!takenNames.isEmpty()) {
+            throw new BusinessException("Des tags avec ces noms existent déjà : " + takenNames);
+        }
+        
+        List<Tag> savedTags = batchWriter.insertAll(tagRepository, tags);
+        savedTags.forEach(tag -> eventPublisher.publishEvent(EntityChangedEvent.tag(tag.getId())));
+        return savedTags;
     }
 
     @Override
@@ -76,7 +141,9 @@ public class TagServiceImpl implements TagService {
             throw new BusinessException("Un tag avec ce nom existe déjà");
         }
         
-        return tagRepository.save(tag);
+        Tag savedTag = tagRepository.save(tag);
+        eventPublisher.publishEvent(EntityChangedEvent.tag(savedTag.getId()));
+        return savedTag;
     }
 
     @Override
@@ -87,6 +154,7 @@ public class TagServiceImpl implements TagService {
                     // Soft delete
                     tag.setDeletedAt(LocalDateTime.now());
                     tagRepository.save(tag);
+                    eventPublisher.publishEvent(EntityChangedEvent.tag(id));
                     return true;
                 })
                 .orElse(false);
@@ -98,7 +166,10 @@ public class TagServiceImpl implements TagService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Long countQuizzesByTagId(UUID tagId) {
-        return quizTagRepository.countQuizzesByTagId(tagId);
+        return tagRepository.findById(tagId)
+                .map(Tag::getQuizCount)
+                .orElse(0L);
     }
 }
\ No newline at end of file
@@ -1,10 +1,13 @@
 package fr.hachim.quizapi.core.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -12,30 +15,53 @@ import org.springframework.transaction.annotation.Transactional;
 
 import fr.hachim.quizapi.core.exception.BusinessException;
 import fr.hachim.quizapi.core.model.User;
+import fr.hachim.quizapi.core.pagination.KeysetCursor;
 import fr.hachim.quizapi.core.repository.UserRepository;
+import fr.hachim.quizapi.core.repository.projection.ResourceVersion;
 import fr.hachim.quizapi.core.service.UserService;
 import lombok.RequiredArgsConstructor;
 
 /**
  * Implémentation du service UserService.
+ * Les recherches unitaires (ID, nom d'utilisateur, email) restent sur le primaire : elles servent
+ * à l'authentification et aux contrôles d'unicité, qui ne tolèrent pas de retard.
  */
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final BatchWriter batchWriter;
 
     @Override
+    @Transactional(readOnly = true)
     public Page<User> findAllUsers(Pageable pageable) {
-        return userRepository.findAll(pageable);
+        return userRepository.findByDeletedAtIsNull(pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<User> findUsersAfter(KeysetCursor after, int limit) {
+        if (after == null) {
+            return userRepository.findByKeyset(Limit.of(limit));
+        }
+        return userRepository.findByKeysetAfter(after.sortKey(), after.id(), Limit.of(limit));
+    }
+
+    @Override
+    @Transactional
     public Optional<User> findUserById(UUID id) {
         return userRepository.findById(id)
                 .filter(user -> user.getDeletedAt() == null);
     }
 
+    @Override
+    public Optional<ResourceVersion> findUserVersion(UUID id) {
+        return userRepository.findVersionTimestamps(id).stream()
+                .findFirst()
+                .map(timestamps -> ResourceVersion.latest(id, timestamps));
+    }
+
     @Override
     public Optional<User> findUserByUsername(String username) {
         return userRepository.findByUsername(username)
@@ -49,6 +75,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> searchUsers(String searchTerm, int limit) {
         return userRepository.searchUsers(searchTerm).stream()
                 .limit(limit)
@@ -71,6 +98,36 @@ public class UserServiceImpl implements UserService {
         return userRepository.save(user);
     }
 
+    @Override
+    @Transactional
+    public List<User> createUsers(List<User> users) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+        
+        // Vérifier les noms d'utilisateur et les emails en une requête chacun, doublons du lot compris
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (User user : users) {
+            if (!usernames.add(user.getUsername())) {
+                throw new BusinessException("Le nom d'utilisateur " + user.getUsername() + " apparaît plusieurs fois");
+            }
+            if (!emails.add(user.getEmail())) {
+                throw new BusinessException("L'adresse email " + user.getEmail() + " apparaît plusieurs fois");
+            }
+        }
+        Set<String> takenUsernames = userRepository.findExistingUsernames(usernames);
+        if (!takenUsernames.isEmpty()) {
+            throw new BusinessException("Ces noms d'utilisateur sont déjà pris : " + takenUsernames);
+        }
+        Set<String> takenEmails = userRepository.findExistingEmails(emails);
+        if (!takenEmails.isEmpty()) {
+            throw new BusinessException("Ces adresses email sont déjà utilisées : " + takenEmails);
+        }
+        
+        return batchWriter.insertAll(userRepository, users);
+    }
+
     @Override
     @Transactional
     public User updateUser(User user) {
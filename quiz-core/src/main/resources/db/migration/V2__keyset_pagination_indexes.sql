@@ -0,0 +1,10 @@
+-- V2__keyset_pagination_indexes.sql
+-- Index composites pour la pagination par curseur (keyset) des quiz et des utilisateurs.
+-- L'ID sert de départage pour garantir un ordre total et stable entre deux pages.
+
+-- Quiz : parcours par date de création décroissante
+DROP INDEX IF EXISTS idx_quizzes_created_at;
+CREATE INDEX idx_quizzes_created_at ON quizzes(created_at DESC, id DESC) WHERE deleted_at IS NULL;
+
+-- Utilisateurs : parcours par nom d'utilisateur croissant
+CREATE INDEX idx_users_username_id ON users(username, id) WHERE deleted_at IS NULL;
@@ -0,0 +1,34 @@
+-- V3__quiz_full_text_search.sql
+-- Recherche plein texte sur les quiz : vecteur pondéré (titre A, description B)
+-- indexé en GIN et maintenu par trigger. Les racinisations française et anglaise
+-- sont toutes deux indexées pour que les requêtes dans l'une ou l'autre langue trouvent le quiz.
+
+ALTER TABLE quizzes ADD COLUMN search_vector tsvector;
+
+-- Fonction calculant le vecteur de recherche d'un quiz
+CREATE OR REPLACE FUNCTION quizzes_search_vector(title TEXT, description TEXT)
+RETURNS tsvector AS $$
+   SELECT setweight(to_tsvector('french', coalesce(title, '')), 'A') ||
+          setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+          setweight(to_tsvector('french', coalesce(description, '')), 'B') ||
+          setweight(to_tsvector('english', coalesce(description, '')), 'B');
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Trigger maintenant le vecteur à jour lors des insertions et des modifications du texte
+CREATE OR REPLACE FUNCTION update_quizzes_search_vector()
+RETURNS TRIGGER AS $$
+BEGIN
+   NEW.search_vector = quizzes_search_vector(NEW.title, NEW.description);
+   RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER update_quizzes_search_vector BEFORE INSERT OR UPDATE OF title, description ON quizzes
+    FOR EACH ROW EXECUTE FUNCTION update_quizzes_search_vector();
+
+-- Initialisation des quiz existants, sans toucher à leur date de modification
+ALTER TABLE quizzes DISABLE TRIGGER update_quizzes_timestamp;
+UPDATE quizzes SET search_vector = quizzes_search_vector(title, description);
+ALTER TABLE quizzes ENABLE TRIGGER update_quizzes_timestamp;
+
+CREATE INDEX idx_quizzes_search_vector ON quizzes USING GIN (search_vector) WHERE deleted_at IS NULL;
@@ -0,0 +1,98 @@
+-- V4__category_closure.sql
+-- Table de fermeture transitive de la hiérarchie des catégories : une ligne par couple
+-- (ancêtre, descendant), y compris le couple réflexif de profondeur 0. Elle est maintenue
+-- par trigger à partir de categories.parent_id et permet de parcourir un sous-arbre
+-- complet en une seule jointure indexée.
+-- Les catégories supprimées (soft delete) y restent, comme dans categories.parent_id : les
+-- triggers ne les distinguent pas, une restauration n'a rien à reconstruire, et seule une
+-- feuille sans quiz peut être supprimée, elle n'ajoute donc aucun quiz à un sous-arbre.
+
+CREATE TABLE category_closure (
+    ancestor_id UUID NOT NULL,
+    descendant_id UUID NOT NULL,
+    depth INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    FOREIGN KEY (ancestor_id) REFERENCES categories(id) ON DELETE CASCADE,
+    FOREIGN KEY (descendant_id) REFERENCES categories(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_category_closure_descendant ON category_closure(descendant_id, ancestor_id);
+
+-- Insertion : la nouvelle catégorie hérite des ancêtres de son parent
+CREATE OR REPLACE FUNCTION category_closure_insert()
+RETURNS TRIGGER AS $$
+BEGIN
+   INSERT INTO category_closure (ancestor_id, descendant_id, depth) VALUES (NEW.id, NEW.id, 0);
+   IF NEW.parent_id IS NOT NULL THEN
+      INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+      SELECT ancestor_id, NEW.id, depth + 1 FROM category_closure WHERE descendant_id = NEW.parent_id;
+   END IF;
+   RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER category_closure_insert AFTER INSERT ON categories
+    FOR EACH ROW EXECUTE FUNCTION category_closure_insert();
+
+-- Déplacement : le sous-arbre est détaché de ses anciens ancêtres puis rattaché sous le nouveau parent
+CREATE OR REPLACE FUNCTION category_closure_move()
+RETURNS TRIGGER AS $$
+BEGIN
+   IF NEW.parent_id IS NOT NULL AND EXISTS (
+         SELECT 1 FROM category_closure WHERE ancestor_id = NEW.id AND descendant_id = NEW.parent_id) THEN
+      RAISE EXCEPTION 'Une catégorie ne peut pas être déplacée sous l''une de ses sous-catégories (%)', NEW.id;
+   END IF;
+
+   DELETE FROM category_closure c
+    USING category_closure sub, category_closure sup
+    WHERE sub.ancestor_id = NEW.id
+      AND sup.descendant_id = NEW.id AND sup.ancestor_id <> NEW.id
+      AND c.descendant_id = sub.descendant_id AND c.ancestor_id = sup.ancestor_id;
+
+   IF NEW.parent_id IS NOT NULL THEN
+      INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+      SELECT sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1
+        FROM category_closure sup, category_closure sub
+       WHERE sup.descendant_id = NEW.parent_id AND sub.ancestor_id = NEW.id;
+   END IF;
+   RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER category_closure_move AFTER UPDATE OF parent_id ON categories
+    FOR EACH ROW WHEN (OLD.parent_id IS DISTINCT FROM NEW.parent_id)
+    EXECUTE FUNCTION category_closure_move();
+
+-- La hiérarchie existante doit être acyclique : l'initialisation récursive ne terminerait pas
+DO $$
+DECLARE
+   cycle_id UUID;
+BEGIN
+   WITH RECURSIVE walk AS (
+       SELECT id AS start_id, parent_id, ARRAY[id] AS path FROM categories
+       UNION ALL
+       SELECT w.start_id, c.parent_id, w.path || c.id
+         FROM walk w
+         JOIN categories c ON c.id = w.parent_id
+        WHERE NOT c.id = ANY(w.path)
+   )
+   SELECT start_id INTO cycle_id FROM walk WHERE parent_id = ANY(path) LIMIT 1;
+   IF cycle_id IS NOT NULL THEN
+      RAISE EXCEPTION 'Cycle dans la hiérarchie des catégories (catégorie %), à corriger avant la migration', cycle_id;
+   END IF;
+END;
+$$;
+
+-- Initialisation à partir de la hiérarchie existante
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE closure AS (
+    SELECT id AS ancestor_id, id AS descendant_id, 0 AS depth FROM categories
+    UNION ALL
+    SELECT cl.ancestor_id, c.id, cl.depth + 1
+      FROM closure cl
+      JOIN categories c ON c.parent_id = cl.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM closure;
+
+-- Parcours des quiz d'un sous-arbre, les plus récents en premier
+CREATE INDEX idx_quizzes_category_created_at ON quizzes(category_id, created_at DESC, id DESC) WHERE deleted_at IS NULL;
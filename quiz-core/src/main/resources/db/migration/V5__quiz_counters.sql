@@ -0,0 +1,95 @@
+-- V5__quiz_counters.sql
+-- Compteurs dénormalisés du nombre de quiz non supprimés par catégorie et par tag,
+-- maintenus par trigger dans la transaction qui modifie les quiz ou leurs tags.
+-- Un job de réconciliation périodique corrige toute dérive (voir QuizCountReconciler).
+
+ALTER TABLE categories ADD COLUMN quiz_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tags ADD COLUMN quiz_count BIGINT NOT NULL DEFAULT 0;
+
+-- Le compteur ne doit pas modifier updated_at : l'horodatage n'est mis à jour que
+-- lorsque les colonnes éditables de la catégorie changent
+DROP TRIGGER update_categories_timestamp ON categories;
+CREATE TRIGGER update_categories_timestamp BEFORE UPDATE OF name, description, parent_id, updated_by, deleted_at ON categories
+    FOR EACH ROW EXECUTE FUNCTION update_timestamp();
+
+-- Quiz : création, suppression (logique ou physique) et changement de catégorie
+CREATE OR REPLACE FUNCTION quizzes_quiz_count()
+RETURNS TRIGGER AS $$
+DECLARE
+   was_live BOOLEAN;
+   is_live BOOLEAN;
+   category_changed BOOLEAN;
+BEGIN
+   IF TG_OP = 'INSERT' THEN
+      was_live := FALSE;
+   ELSE
+      was_live := OLD.deleted_at IS NULL;
+   END IF;
+   IF TG_OP = 'DELETE' THEN
+      is_live := FALSE;
+   ELSE
+      is_live := NEW.deleted_at IS NULL;
+   END IF;
+   IF TG_OP = 'UPDATE' THEN
+      category_changed := OLD.category_id IS DISTINCT FROM NEW.category_id;
+   ELSE
+      category_changed := FALSE;
+   END IF;
+
+   IF was_live AND (NOT is_live OR category_changed) THEN
+      UPDATE categories SET quiz_count = quiz_count - 1 WHERE id = OLD.category_id;
+   END IF;
+   IF is_live AND (NOT was_live OR category_changed) THEN
+      UPDATE categories SET quiz_count = quiz_count + 1 WHERE id = NEW.category_id;
+   END IF;
+
+   IF was_live AND NOT is_live THEN
+      UPDATE tags SET quiz_count = quiz_count - 1
+       WHERE id IN (SELECT tag_id FROM quiz_tags WHERE quiz_id = OLD.id);
+   ELSIF is_live AND NOT was_live THEN
+      UPDATE tags SET quiz_count = quiz_count + 1
+       WHERE id IN (SELECT tag_id FROM quiz_tags WHERE quiz_id = NEW.id);
+   END IF;
+
+   IF TG_OP = 'DELETE' THEN
+      RETURN OLD;
+   END IF;
+   RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER quizzes_quiz_count AFTER INSERT OR UPDATE OF category_id, deleted_at ON quizzes
+    FOR EACH ROW EXECUTE FUNCTION quizzes_quiz_count();
+
+-- La suppression physique est traitée avant que la cascade ne retire les associations quiz_tags
+CREATE TRIGGER quizzes_quiz_count_delete BEFORE DELETE ON quizzes
+    FOR EACH ROW EXECUTE FUNCTION quizzes_quiz_count();
+
+-- Associations quiz-tag : seules celles d'un quiz non supprimé sont comptées
+CREATE OR REPLACE FUNCTION quiz_tags_quiz_count()
+RETURNS TRIGGER AS $$
+BEGIN
+   IF TG_OP = 'INSERT' THEN
+      UPDATE tags SET quiz_count = quiz_count + 1
+       WHERE id = NEW.tag_id
+         AND EXISTS (SELECT 1 FROM quizzes WHERE id = NEW.quiz_id AND deleted_at IS NULL);
+      RETURN NEW;
+   END IF;
+   UPDATE tags SET quiz_count = quiz_count - 1
+    WHERE id = OLD.tag_id
+      AND EXISTS (SELECT 1 FROM quizzes WHERE id = OLD.quiz_id AND deleted_at IS NULL);
+   RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER quiz_tags_quiz_count AFTER INSERT OR DELETE ON quiz_tags
+    FOR EACH ROW EXECUTE FUNCTION quiz_tags_quiz_count();
+
+-- Initialisation des compteurs
+UPDATE categories c SET quiz_count = (
+    SELECT COUNT(*) FROM quizzes q WHERE q.category_id = c.id AND q.deleted_at IS NULL);
+UPDATE tags t SET quiz_count = (
+    SELECT COUNT(*) FROM quiz_tags qt JOIN quizzes q ON q.id = qt.quiz_id
+     WHERE qt.tag_id = t.id AND q.deleted_at IS NULL);
+
+CREATE INDEX idx_tags_quiz_count ON tags(quiz_count DESC) WHERE deleted_at IS NULL;
@@ -0,0 +1,24 @@
+-- V6__uuid_v7_defaults.sql
+-- Identifiants ordonnés dans le temps (UUID version 7, RFC 9562) pour les clés générées en base.
+-- Les nouvelles lignes s'insèrent en fin d'index au lieu de pages aléatoires ; les UUID version 4
+-- existants restent valides. Côté application, les entités utilisent UuidV7Generator.
+
+-- 48 bits d'horodatage Unix en millisecondes suivis des bits aléatoires d'un UUID version 4 ;
+-- le quartet de version passe de 4 (0100) à 7 (0111) en positionnant les bits 52 et 53
+CREATE OR REPLACE FUNCTION uuid_generate_v7()
+RETURNS UUID AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::UUID;
+$$ LANGUAGE sql VOLATILE;
+
+ALTER TABLE users ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE categories ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE quizzes ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE tags ALTER COLUMN id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,9 @@
+-- V7__tag_updated_at.sql
+-- Horodatage de modification des tags, dont dérivent les ETag et Last-Modified des lectures
+-- unitaires (tag seul, ou quiz portant le tag). Comme pour les catégories, seules les colonnes
+-- éditables le mettent à jour, pas le compteur quiz_count.
+
+ALTER TABLE tags ADD COLUMN updated_at TIMESTAMP;
+
+CREATE TRIGGER update_tags_timestamp BEFORE UPDATE OF name, created_by, deleted_at ON tags
+    FOR EACH ROW EXECUTE FUNCTION update_timestamp();
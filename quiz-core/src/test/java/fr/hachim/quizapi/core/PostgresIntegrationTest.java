@@ -0,0 +1,27 @@
+package fr.hachim.quizapi.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Test d'intégration sur une base PostgreSQL réelle (COPY, LISTEN/NOTIFY, triggers).
+ * 
+ * La base est donnée par {@code QUIZAPI_TEST_JDBC_URL}, avec {@code QUIZAPI_TEST_USERNAME} et
+ * {@code QUIZAPI_TEST_PASSWORD} ; elle doit être dédiée aux tests, Flyway la migre au démarrage.
+ * Sans cette variable, les tests annotés sont ignorés.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@EnabledIfEnvironmentVariable(named = "QUIZAPI_TEST_JDBC_URL", matches = ".+")
+@SpringBootTest(classes = QuizCoreTestApplication.class)
+@ActiveProfiles("test")
+public @interface PostgresIntegrationTest {
+}
\ No newline at end of file
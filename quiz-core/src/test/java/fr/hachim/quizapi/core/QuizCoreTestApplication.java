@@ -0,0 +1,17 @@
+package fr.hachim.quizapi.core;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+import fr.hachim.quizapi.core.config.CoreConfig;
+
+/**
+ * Application minimale des tests d'intégration : la configuration du module Core,
+ * comme l'importe l'application principale.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@Import(CoreConfig.class)
+public class QuizCoreTestApplication {
+}
\ No newline at end of file
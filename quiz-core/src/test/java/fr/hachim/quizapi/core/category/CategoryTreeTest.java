@@ -0,0 +1,115 @@
+package fr.hachim.quizapi.core.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import fr.hachim.quizapi.core.model.Category;
+
+class CategoryTreeTest {
+
+    private final List<Category> categories = new ArrayList<>();
+
+    private final Category sciences = category("Sciences", null);
+    private final Category physique = category("Physique", sciences);
+    private final Category mecanique = category("Mécanique", physique);
+    private final Category quantique = category("Quantique", mecanique);
+    private final Category biologie = category("biologie", sciences);
+    private final Category genetique = category("Génétique", biologie);
+    private final Category histoire = category("Histoire", null);
+    private final Category antiquite = category("Antiquité", histoire);
+
+    @Test
+    void nodesAreNumberedInPreorderWithChildrenSortedByName() {
+        CategoryTree tree = CategoryTree.of(categories);
+        
+        assertThat(names(tree.roots())).containsExactly("Histoire", "Sciences");
+        assertThat(names(tree.children(sciences.getId()))).containsExactly("biologie", "Physique");
+        assertThat(names(tree.descendants(sciences.getId())))
+                .containsExactly("biologie", "Génétique", "Physique", "Mécanique", "Quantique");
+        assertThat(tree.descendants(quantique.getId())).isEmpty();
+        assertThat(tree.find(quantique.getId())).hasValueSatisfying(node -> {
+            assertThat(node.depth()).isEqualTo(3);
+            assertThat(node.parentId()).isEqualTo(mecanique.getId());
+        });
+        assertThat(tree.size()).isEqualTo(categories.size());
+    }
+
+    @Test
+    void descendantTestUsesTheSubtreeInterval() {
+        CategoryTree tree = CategoryTree.of(categories);
+        
+        assertThat(tree.isDescendantOf(quantique.getId(), sciences.getId())).isTrue();
+        assertThat(tree.isDescendantOf(quantique.getId(), physique.getId())).isTrue();
+        assertThat(tree.isDescendantOf(genetique.getId(), sciences.getId())).isTrue();
+        assertThat(tree.isDescendantOf(genetique.getId(), physique.getId())).isFalse();
+        assertThat(tree.isDescendantOf(physique.getId(), biologie.getId())).isFalse();
+        assertThat(tree.isDescendantOf(antiquite.getId(), sciences.getId())).isFalse();
+        assertThat(tree.isDescendantOf(sciences.getId(), sciences.getId())).isFalse();
+        assertThat(tree.isDescendantOf(sciences.getId(), quantique.getId())).isFalse();
+        assertThat(tree.isDescendantOf(UUID.randomUUID(), sciences.getId())).isFalse();
+    }
+
+    @Test
+    void ancestorsAndBreadcrumbsFollowTheParents() {
+        CategoryTree tree = CategoryTree.of(categories);
+        
+        assertThat(names(tree.ancestors(quantique.getId()))).containsExactly("Mécanique", "Physique", "Sciences");
+        assertThat(names(tree.breadcrumbs(quantique.getId())))
+                .containsExactly("Sciences", "Physique", "Mécanique", "Quantique");
+        assertThat(tree.ancestors(sciences.getId())).isEmpty();
+        assertThat(names(tree.breadcrumbs(sciences.getId()))).containsExactly("Sciences");
+        assertThat(tree.breadcrumbs(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void categoryWithADeletedParentIsARoot() {
+        Category orphan = category("Zoologie", null);
+        orphan.setParentId(UUID.randomUUID());
+        Category child = category("Insectes", orphan);
+        
+        CategoryTree tree = CategoryTree.of(categories);
+        
+        assertThat(names(tree.roots())).containsExactly("Histoire", "Sciences", "Zoologie");
+        assertThat(tree.find(orphan.getId())).hasValueSatisfying(node -> {
+            assertThat(node.parentId()).isNull();
+            assertThat(node.depth()).isZero();
+        });
+        assertThat(names(tree.breadcrumbs(child.getId()))).containsExactly("Zoologie", "Insectes");
+        assertThat(tree.isDescendantOf(child.getId(), orphan.getId())).isTrue();
+    }
+
+    @Test
+    void parentCycleIsBrokenAtTheFirstNodeByName() {
+        Category first = category("Cycle A", null);
+        Category second = category("Cycle B", first);
+        first.setParentId(second.getId());
+        Category leaf = category("Feuille", second);
+        
+        CategoryTree tree = CategoryTree.of(categories);
+        
+        assertThat(tree.size()).isEqualTo(categories.size());
+        assertThat(names(tree.roots())).containsExactly("Histoire", "Sciences", "Cycle A");
+        assertThat(names(tree.descendants(first.getId()))).containsExactly("Cycle B", "Feuille");
+        assertThat(names(tree.ancestors(leaf.getId()))).containsExactly("Cycle B", "Cycle A");
+        assertThat(tree.isDescendantOf(first.getId(), second.getId())).isFalse();
+        assertThat(tree.find(first.getId())).hasValueSatisfying(node -> assertThat(node.parentId()).isNull());
+    }
+
+    private Category category(String name, Category parent) {
+        Category category = new Category();
+        category.setId(UUID.randomUUID());
+        category.setName(name);
+        category.setParentId(parent == null ? null : parent.getId());
+        categories.add(category);
+        return category;
+    }
+
+    private static List<String> names(List<CategoryNode> nodes) {
+        return nodes.stream().map(CategoryNode::name).toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package fr.hachim.quizapi.core.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.hachim.quizapi.core.PostgresIntegrationTest;
+import fr.hachim.quizapi.core.cache.ResponseCache;
+import fr.hachim.quizapi.core.category.CategoryTreeHolder;
+
+/**
+ * Vérifie que la liste des catégories porte les nombres de quiz, qu'elle soit limitée
+ * aux racines ou non.
+ */
+@PostgresIntegrationTest
+@AutoConfigureMockMvc
+@Transactional
+class CategoryListingQuizCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryTreeHolder categoryTreeHolder;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    private UUID rootId;
+    private UUID childId;
+    private UUID orphanId;
+
+    @BeforeEach
+    void insertCategoriesWithQuizzes() {
+        UUID adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'admin'", UUID.class);
+        rootId = insertCategory("Racine comptée", null);
+        childId = insertCategory("Enfant compté", rootId);
+        UUID deletedId = insertCategory("Parent supprimé", null);
+        orphanId = insertCategory("Orpheline comptée", deletedId);
+        jdbcTemplate.update("UPDATE categories SET deleted_at = ? WHERE id = ?", LocalDateTime.now(), deletedId);
+        for (UUID categoryId : new UUID[] { rootId, rootId, childId }) {
+            jdbcTemplate.update("INSERT INTO quizzes (title, status, is_public, category_id, created_by) " +
+                    "VALUES ('Quiz compté', 'PUBLISHED', true, ?, ?)", categoryId, adminId);
+        }
+        
+        // Les catégories insérées sont visibles de l'arbre construit dans la transaction du test
+        categoryTreeHolder.rebuild();
+        responseCache.invalidate();
+    }
+
+    @AfterTransaction
+    void forgetRolledBackCategories() {
+        categoryTreeHolder.rebuild();
+        responseCache.invalidate();
+    }
+
+    @Test
+    void allCategoriesCarryTheirQuizCount() throws Exception {
+        ResultActions result = mockMvc.perform(get("/api/v1/categories")).andExpect(status().isOk());
+        
+        expectQuizCount(result, rootId, 2);
+        expectQuizCount(result, childId, 1);
+        expectQuizCount(result, orphanId, 0);
+    }
+
+    @Test
+    void rootCategoriesCarryTheirQuizCount() throws Exception {
+        ResultActions result = mockMvc.perform(get("/api/v1/categories").param("onlyRoots", "true"))
+                .andExpect(status().isOk());
+        
+        expectQuizCount(result, rootId, 2);
+        expectQuizCount(result, orphanId, 0);
+        result.andExpect(jsonPath("$.data[?(@.id == '%s')]", childId).value(empty()));
+    }
+
+    private static void expectQuizCount(ResultActions result, UUID categoryId, int quizCount) throws Exception {
+        result.andExpect(jsonPath("$.data[?(@.id == '%s')].quizCount", categoryId).value(contains(quizCount)));
+    }
+
+    private UUID insertCategory(String name, UUID parentId) {
+        UUID categoryId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO categories (id, name, parent_id) VALUES (?, ?, ?)",
+                categoryId, name, parentId);
+        return categoryId;
+    }
+}
\ No newline at end of file
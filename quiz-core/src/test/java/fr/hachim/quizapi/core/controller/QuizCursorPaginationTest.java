@@ -0,0 +1,91 @@
+package fr.hachim.quizapi.core.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jayway.jsonpath.JsonPath;
+
+import fr.hachim.quizapi.core.PostgresIntegrationTest;
+
+/**
+ * Parcours des quiz par curseur : chaque quiz non supprimé est lu une fois, dans l'ordre
+ * (createdAt, id) décroissant, y compris lorsque plusieurs quiz ont la même date de création.
+ */
+@PostgresIntegrationTest
+@AutoConfigureMockMvc
+@Transactional
+class QuizCursorPaginationTest {
+
+    private static final int QUIZ_COUNT = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> quizIds = new ArrayList<>();
+
+    @BeforeEach
+    void insertQuizzes() {
+        UUID adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'admin'", UUID.class);
+        // Dates dans le futur, par groupes de trois quiz de même date
+        LocalDateTime newest = LocalDateTime.of(2999, 1, 1, 0, 0);
+        for (int i = 0; i < QUIZ_COUNT; i++) {
+            UUID quizId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO quizzes (id, title, created_at, created_by) VALUES (?, ?, ?, ?)",
+                    quizId, "Quiz " + i, newest.minusMinutes(i / 3), adminId);
+            quizIds.add(quizId);
+        }
+        jdbcTemplate.update("INSERT INTO quizzes (title, created_at, created_by, deleted_at) VALUES (?, ?, ?, ?)",
+                "Quiz supprimé", newest, adminId, newest);
+    }
+
+    @Test
+    void cursorWalkReturnsEachQuizOnceInKeysetOrder() throws Exception {
+        List<UUID> expected = jdbcTemplate.queryForList("SELECT id FROM quizzes WHERE deleted_at IS NULL " +
+                "ORDER BY created_at DESC, id DESC LIMIT ?", UUID.class, QUIZ_COUNT);
+        assertThat(expected).containsExactlyInAnyOrderElementsOf(quizIds);
+        
+        List<UUID> walked = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            String body = mockMvc.perform(get("/api/v1/quizzes").param("after", cursor).param("size", "4"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            List<String> ids = JsonPath.read(body, "$.data.content[*].id");
+            ids.forEach(id -> walked.add(UUID.fromString(id)));
+            cursor = JsonPath.read(body, "$.data.nextCursor");
+        }
+        
+        Long activeQuizzes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM quizzes WHERE deleted_at IS NULL", Long.class);
+        assertThat(walked).doesNotHaveDuplicates().hasSize(activeQuizzes.intValue());
+        assertThat(walked.subList(0, QUIZ_COUNT)).containsExactlyElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "101" })
+    void pageSizeIsBoundedInBothModes(String size) throws Exception {
+        mockMvc.perform(get("/api/v1/quizzes").param("size", size))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/quizzes").param("after", "").param("size", size))
+                .andExpect(status().isBadRequest());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package fr.hachim.quizapi.core.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.hachim.quizapi.core.PostgresIntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Vérifie que les listes de quiz chargent les tags de toute la page en une requête :
+ * le nombre de requêtes par page ne dépend pas de sa taille.
+ */
+@PostgresIntegrationTest
+@AutoConfigureMockMvc
+@Transactional
+class QuizListingQueryCountTest {
+
+    private static final int QUIZ_COUNT = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void insertTaggedQuizzes() {
+        UUID adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'admin'", UUID.class);
+        UUID firstTag = insertTag("query-count-a");
+        UUID secondTag = insertTag("query-count-b");
+        // Dates dans le futur : ces quiz sont en tête des listes triées par date décroissante
+        LocalDateTime createdAt = LocalDateTime.of(2999, 1, 1, 0, 0);
+        for (int i = 0; i < QUIZ_COUNT; i++) {
+            UUID quizId = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO quizzes (id, title, status, is_public, created_at, created_by) " +
+                    "VALUES (?, ?, 'PUBLISHED', true, ?, ?)", quizId, "Quiz " + i, createdAt.minusMinutes(i), adminId);
+            jdbcTemplate.update("INSERT INTO quiz_tags (quiz_id, tag_id) VALUES (?, ?), (?, ?)",
+                    quizId, firstTag, quizId, secondTag);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/api/v1/quizzes", "/api/v1/quizzes/search?term=quiz" })
+    void queryCountDoesNotDependOnPageSize(String path) throws Exception {
+        long smallPage = countStatements(path, 5);
+        long largePage = countStatements(path, 25);
+        
+        assertThat(largePage).isEqualTo(smallPage);
+        assertThat(largePage).isLessThan(25);
+    }
+
+    private long countStatements(String path, int size) throws Exception {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        mockMvc.perform(get(path).param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(size)))
+                .andExpect(jsonPath("$.data.content[0].tags", hasSize(2)));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UUID insertTag(String name) {
+        UUID tagId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tags (id, name) VALUES (?, ?)", tagId, name);
+        return tagId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package fr.hachim.quizapi.core.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CursorPageResponseTest {
+
+    @Test
+    void extraRowSignalsANextPageAndIsNotReturned() {
+        CursorPageResponse<String> page = CursorPageResponse.from(List.of("a", "b", "c", "d"), 3, value -> "after-" + value);
+        
+        assertThat(page.getContent()).containsExactly("a", "b", "c");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("after-c");
+        assertThat(page.getSize()).isEqualTo(3);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPageResponse<String> page = CursorPageResponse.from(List.of("a", "b", "c"), 3, value -> "after-" + value);
+        
+        assertThat(page.getContent()).containsExactly("a", "b", "c");
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void emptyPageHasNoCursor() {
+        CursorPageResponse<String> page = CursorPageResponse.from(List.of(), 3, value -> "after-" + value);
+        
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package fr.hachim.quizapi.core.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import fr.hachim.quizapi.core.PostgresIntegrationTest;
+import fr.hachim.quizapi.core.config.CacheConfig;
+
+/**
+ * Bus d'invalidation : les notifications des autres instances sont republiées localement et
+ * invalident les caches, les événements locaux sont diffusés sans revenir à leur émetteur.
+ * Sans transaction de test : PostgreSQL ne délivre une notification qu'au commit.
+ */
+@PostgresIntegrationTest
+class ClusterInvalidationBusTest {
+
+    private static final long TIMEOUT_MS = 10_000;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${quizapi.cluster.invalidation.channel}")
+    private String channel;
+
+    private final BlockingQueue<EntityChangedEvent> events = new LinkedBlockingQueue<>();
+    private final ApplicationListener<PayloadApplicationEvent<EntityChangedEvent>> recorder =
+            ApplicationListener.forPayload(events::add);
+
+    @BeforeEach
+    void recordEvents() {
+        applicationContext.addApplicationListener(recorder);
+    }
+
+    @AfterEach
+    void stopRecording() {
+        applicationContext.removeApplicationListener(recorder);
+    }
+
+    @Test
+    void notificationFromAnotherNodeIsRepublishedAndEvictsTheQuiz() throws Exception {
+        UUID quizId = UUID.randomUUID();
+        Cache quizzes = cacheManager.getCache(CacheConfig.QUIZZES);
+        quizzes.put(quizId, "en cache");
+        
+        // Le thread d'écoute s'abonne au démarrage du contexte : la notification est renvoyée
+        // jusqu'à sa réception
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        EntityChangedEvent received = null;
+        while (received == null && System.currentTimeMillis() < deadline) {
+            jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, "autre-instance:QUIZ:" + quizId);
+            received = nextEventFor(quizId.toString(), 200);
+        }
+        
+        assertThat(received).isNotNull();
+        assertThat(received.remote()).isTrue();
+        assertThat(received.entityType()).isEqualTo(EntityChangedEvent.EntityType.QUIZ);
+        assertThat(quizzes.get(quizId)).isNull();
+    }
+
+    @Test
+    void localEventIsNotifiedToOtherNodesOnly() throws Exception {
+        UUID tagId = UUID.randomUUID();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + channel);
+            }
+            
+            applicationContext.publishEvent(EntityChangedEvent.tag(tagId));
+            
+            List<String> payloads = new ArrayList<>();
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+            while (payloads.stream().noneMatch(payload -> payload.endsWith(":TAG:" + tagId))
+                    && System.currentTimeMillis() < deadline) {
+                PGNotification[] notifications = pgConnection.getNotifications(200);
+                if (notifications != null) {
+                    for (PGNotification notification : notifications) {
+                        payloads.add(notification.getParameter());
+                    }
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("UNLISTEN " + channel);
+            }
+            assertThat(payloads).anyMatch(payload -> payload.endsWith(":TAG:" + tagId));
+        }
+        
+        // Seul l'événement local est observé : l'instance ignore sa propre notification
+        assertThat(nextEventFor(tagId.toString(), 1000)).isNotNull().matches(event -> !event.remote());
+        assertThat(nextEventFor(tagId.toString(), 1000)).isNull();
+    }
+
+    private EntityChangedEvent nextEventFor(String entityId, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        long remaining = timeoutMs;
+        while (remaining > 0) {
+            EntityChangedEvent event = events.poll(remaining, TimeUnit.MILLISECONDS);
+            if (event != null && event.entityId().equals(entityId)) {
+                return event;
+            }
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package fr.hachim.quizapi.core.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import fr.hachim.quizapi.core.exception.BusinessException;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodedCursorDecodesToTheSamePosition() {
+        UUID id = UUID.randomUUID();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123456000);
+        
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of(createdAt, id).encode());
+        
+        assertThat(decoded.id()).isEqualTo(id);
+        assertThat(decoded.sortKeyAsDateTime()).isEqualTo(createdAt);
+    }
+
+    @Test
+    void textualSortKeyMayContainTheSeparator() {
+        UUID id = UUID.randomUUID();
+        
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.of("jean|dupont", id).encode());
+        
+        assertThat(decoded).isEqualTo(new KeysetCursor("jean|dupont", id));
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        String token = KeysetCursor.of("é?&/+=", UUID.randomUUID()).encode();
+        
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode("bm8tc2VwYXJhdG9y")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(KeysetCursor.of("x", UUID.randomUUID()).encode())
+                .sortKeyAsDateTime()).isInstanceOf(BusinessException.class);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package fr.hachim.quizapi.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.hachim.quizapi.core.PostgresIntegrationTest;
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+
+/**
+ * Table de fermeture des catégories : maintenue par les triggers à l'insertion et au
+ * déplacement d'une catégorie, et utilisée par le parcours des quiz d'un sous-arbre.
+ * 
+ * Arbre de départ : science &gt; physique &gt; optique, et histoire.
+ */
+@PostgresIntegrationTest
+@Transactional
+class CategoryClosureTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    private UUID adminId;
+    private UUID science;
+    private UUID physics;
+    private UUID optics;
+    private UUID history;
+
+    @BeforeEach
+    void insertTree() {
+        adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'admin'", UUID.class);
+        science = insertCategory("Science", null);
+        physics = insertCategory("Physique", science);
+        optics = insertCategory("Optique", physics);
+        history = insertCategory("Histoire", null);
+    }
+
+    @Test
+    void insertLinksEveryAncestor() {
+        assertThat(ancestorsOf(optics)).containsExactlyInAnyOrder(
+                tuple(optics, 0), tuple(physics, 1), tuple(science, 2));
+        assertThat(ancestorsOf(history)).containsExactly(tuple(history, 0));
+    }
+
+    @Test
+    void moveRelinksTheWholeSubtree() {
+        jdbcTemplate.update("UPDATE categories SET parent_id = ? WHERE id = ?", history, physics);
+        
+        assertThat(ancestorsOf(physics)).containsExactlyInAnyOrder(tuple(physics, 0), tuple(history, 1));
+        assertThat(ancestorsOf(optics)).containsExactlyInAnyOrder(
+                tuple(optics, 0), tuple(physics, 1), tuple(history, 2));
+        assertThat(ancestorsOf(science)).containsExactly(tuple(science, 0));
+    }
+
+    @Test
+    void moveToTheRootDetachesTheSubtree() {
+        jdbcTemplate.update("UPDATE categories SET parent_id = NULL WHERE id = ?", physics);
+        
+        assertThat(ancestorsOf(optics)).containsExactlyInAnyOrder(tuple(optics, 0), tuple(physics, 1));
+    }
+
+    @Test
+    void moveUnderOwnDescendantIsRejected() {
+        assertThatThrownBy(() -> jdbcTemplate.update("UPDATE categories SET parent_id = ? WHERE id = ?", optics, science))
+                .isInstanceOf(DataAccessException.class);
+    }
+
+    @Test
+    void subtreeQueryFollowsMoves() {
+        UUID scienceQuiz = insertQuiz("Quiz de science", science);
+        UUID opticsQuiz = insertQuiz("Quiz d'optique", optics);
+        UUID historyQuiz = insertQuiz("Quiz d'histoire", history);
+        
+        assertThat(subtreeQuizIds(science)).containsExactlyInAnyOrder(scienceQuiz, opticsQuiz);
+        
+        jdbcTemplate.update("UPDATE categories SET parent_id = ? WHERE id = ?", history, physics);
+        
+        assertThat(subtreeQuizIds(science)).containsExactly(scienceQuiz);
+        assertThat(subtreeQuizIds(history)).containsExactlyInAnyOrder(historyQuiz, opticsQuiz);
+    }
+
+    private List<Tuple> ancestorsOf(UUID categoryId) {
+        return jdbcTemplate.query("SELECT ancestor_id, depth FROM category_closure WHERE descendant_id = ?",
+                (rs, rowNum) -> tuple(rs.getObject("ancestor_id", UUID.class), rs.getInt("depth")), categoryId);
+    }
+
+    private List<UUID> subtreeQuizIds(UUID categoryId) {
+        return quizRepository.findRowsInCategorySubtree(categoryId, PageRequest.of(0, 100)).map(QuizRow::id).getContent();
+    }
+
+    private UUID insertCategory(String name, UUID parentId) {
+        UUID categoryId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO categories (id, name, parent_id) VALUES (?, ?, ?)", categoryId, name, parentId);
+        return categoryId;
+    }
+
+    private UUID insertQuiz(String title, UUID categoryId) {
+        UUID quizId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO quizzes (id, title, category_id, created_by) VALUES (?, ?, ?, ?)",
+                quizId, title, categoryId, adminId);
+        return quizId;
+    }
+}
\ No newline at end of file
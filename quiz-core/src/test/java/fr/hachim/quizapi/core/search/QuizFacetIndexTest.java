@@ -0,0 +1,163 @@
+package fr.hachim.quizapi.core.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+
+/**
+ * Compare les filtres et comptes par bitmap à un calcul naïf sur les mêmes quiz.
+ */
+class QuizFacetIndexTest {
+
+    private static final List<UUID> CATEGORIES = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    private static final List<UUID> TAGS = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+            UUID.randomUUID());
+    private static final List<String> DIFFICULTIES = List.of("EASY", "MEDIUM", "HARD");
+    private static final List<String> STATUSES = List.of("PUBLISHED", "DRAFT", "ARCHIVED");
+
+    private final Random random = new Random(42);
+    private final QuizFacetIndex facets = new QuizFacetIndex();
+    private final Map<Integer, Fixture> fixtures = new HashMap<>();
+
+    @Test
+    void countsMatchABruteForceCount() {
+        putRandomQuizzes(200);
+        
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void onlyPublishedQuizzesAreMatched() {
+        UUID categoryId = CATEGORIES.get(0);
+        put(0, new Fixture(categoryId, "EASY", "PUBLISHED", true, Set.of()));
+        put(1, new Fixture(categoryId, "EASY", "DRAFT", true, Set.of()));
+        put(2, new Fixture(categoryId, "EASY", "ARCHIVED", true, Set.of()));
+        
+        BitSet matches = facets.filter(new QuizSearchCriteria(null, categoryId, null, null));
+        
+        assertThat(matches.stream()).containsExactly(0);
+        assertThat(facets.counts(matches).get(QuizFacet.CATEGORY.key()))
+                .containsExactly(Map.entry(categoryId.toString(), 1L));
+    }
+
+    @Test
+    void countsFollowUpdatesAndRemovals() {
+        putRandomQuizzes(200);
+        
+        for (int ordinal = 0; ordinal < 200; ordinal += 3) {
+            put(ordinal, randomFixture());
+        }
+        for (int ordinal = 1; ordinal < 200; ordinal += 5) {
+            facets.remove(ordinal);
+            fixtures.remove(ordinal);
+        }
+        
+        assertMatchesBruteForce();
+    }
+
+    @Test
+    void emptyFacetValuesAreOmitted() {
+        put(0, new Fixture(CATEGORIES.get(0), "EASY", "PUBLISHED", false, Set.of(TAGS.get(0))));
+        put(0, new Fixture(CATEGORIES.get(1), "HARD", "PUBLISHED", true, Set.of(TAGS.get(1))));
+        
+        Map<String, Map<String, Long>> counts = facets.counts(
+                facets.filter(new QuizSearchCriteria(null, null, null, null)));
+        
+        assertThat(counts.get(QuizFacet.CATEGORY.key())).containsOnlyKeys(CATEGORIES.get(1).toString());
+        assertThat(counts.get(QuizFacet.DIFFICULTY.key())).containsOnlyKeys("HARD");
+        assertThat(counts.get(QuizFacet.VISIBILITY.key())).containsExactly(Map.entry("true", 1L));
+        assertThat(counts.get(QuizFacet.TAG.key())).containsOnlyKeys(TAGS.get(1).toString());
+        assertThat(facets.withTag(TAGS.get(0)).isEmpty()).isTrue();
+        assertThat(facets.inCategory(CATEGORIES.get(1)).stream()).containsExactly(0);
+    }
+
+    private void assertMatchesBruteForce() {
+        List<QuizSearchCriteria> criteria = new ArrayList<>();
+        Stream.concat(Stream.of((UUID) null), CATEGORIES.stream()).forEach(categoryId ->
+                Stream.concat(Stream.of((String) null), DIFFICULTIES.stream()).forEach(difficulty ->
+                        Stream.of(null, true, false).forEach(isPublic ->
+                                criteria.add(new QuizSearchCriteria(null, categoryId, difficulty, isPublic)))));
+        
+        for (QuizSearchCriteria criterion : criteria) {
+            BitSet matches = facets.filter(criterion);
+            List<Integer> expected = fixtures.entrySet().stream()
+                    .filter(entry -> entry.getValue().matches(criterion))
+                    .map(Map.Entry::getKey)
+                    .sorted()
+                    .toList();
+            
+            assertThat(matches.stream().boxed().toList()).as("%s", criterion).isEqualTo(expected);
+            assertThat(facets.counts(matches)).as("%s", criterion).isEqualTo(bruteForceCounts(expected));
+        }
+    }
+
+    private Map<String, Map<String, Long>> bruteForceCounts(List<Integer> ordinals) {
+        Map<String, Long> byCategory = new HashMap<>();
+        Map<String, Long> byDifficulty = new HashMap<>();
+        Map<String, Long> byVisibility = new HashMap<>();
+        Map<String, Long> byTag = new HashMap<>();
+        for (int ordinal : ordinals) {
+            Fixture fixture = fixtures.get(ordinal);
+            byCategory.merge(fixture.categoryId().toString(), 1L, Long::sum);
+            byDifficulty.merge(fixture.difficultyLevel(), 1L, Long::sum);
+            byVisibility.merge(String.valueOf(fixture.isPublic()), 1L, Long::sum);
+            fixture.tagIds().forEach(tagId -> byTag.merge(tagId.toString(), 1L, Long::sum));
+        }
+        return Map.of(QuizFacet.CATEGORY.key(), byCategory, QuizFacet.DIFFICULTY.key(), byDifficulty,
+                QuizFacet.VISIBILITY.key(), byVisibility, QuizFacet.TAG.key(), byTag);
+    }
+
+    private void putRandomQuizzes(int count) {
+        for (int ordinal = 0; ordinal < count; ordinal++) {
+            put(ordinal, randomFixture());
+        }
+    }
+
+    private Fixture randomFixture() {
+        Set<UUID> tagIds = new HashSet<>();
+        TAGS.forEach(tagId -> {
+            if (random.nextInt(3) == 0) {
+                tagIds.add(tagId);
+            }
+        });
+        return new Fixture(pick(CATEGORIES), pick(DIFFICULTIES), pick(STATUSES), random.nextBoolean(), tagIds);
+    }
+
+    private <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private void put(int ordinal, Fixture fixture) {
+        facets.put(ordinal, fixture.toRow(), fixture.tagIds());
+        fixtures.put(ordinal, fixture);
+    }
+
+    private record Fixture(UUID categoryId, String difficultyLevel, String status, boolean isPublic, Set<UUID> tagIds) {
+
+        boolean matches(QuizSearchCriteria criteria) {
+            return "PUBLISHED".equals(status)
+                    && (criteria.categoryId() == null || criteria.categoryId().equals(categoryId))
+                    && (criteria.difficultyLevel() == null || criteria.difficultyLevel().equals(difficultyLevel))
+                    && (criteria.isPublic() == null || criteria.isPublic() == isPublic);
+        }
+
+        QuizRow toRow() {
+            return new QuizRow(UUID.randomUUID(), "Quiz", null, difficultyLevel, null, null, status, isPublic,
+                    LocalDateTime.now(), null, categoryId, null, null, null, null, null);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package fr.hachim.quizapi.core.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import fr.hachim.quizapi.core.repository.projection.QuizRow;
+
+class QuizInvertedIndexTest {
+
+    private static final Pageable ALL = PageRequest.of(0, 100);
+
+    private final QuizInvertedIndex index = new QuizInvertedIndex();
+
+    @Test
+    void resultsAreRankedByBm25() {
+        UUID inTitle = index(row("Les bases de Java", "Variables et boucles"));
+        UUID inDescription = index(row("Les bases", "Variables et boucles en Java"));
+        UUID repeated = index(row("Java", "Java, Java et encore Java"));
+        UUID inLongDescription = index(row("Les bases", "Variables, boucles, fonctions, classes, "
+                + "interfaces, exceptions et collections en Java"));
+        index(row("Les bases de Python", "Variables et boucles"));
+        
+        assertThat(hitIds("java")).containsExactly(repeated, inTitle, inDescription, inLongDescription);
+    }
+
+    @Test
+    void everyWordOfTheTermMustMatch() {
+        UUID both = index(row("Java avancé", null));
+        index(row("Java débutant", null));
+        
+        assertThat(hitIds("java av")).containsExactly(both);
+        assertThat(hitIds("java rust")).isEmpty();
+    }
+
+    @Test
+    void prefixExpansionIsCapped() {
+        for (int i = 0; i <= QuizInvertedIndex.MAX_PREFIX_EXPANSIONS; i++) {
+            index(row(String.format("terme%03d", i), null));
+        }
+        UUID last = index(row(String.format("terme%03d", QuizInvertedIndex.MAX_PREFIX_EXPANSIONS), "doublon"));
+        
+        assertThat(hitIds("terme")).hasSize(QuizInvertedIndex.MAX_PREFIX_EXPANSIONS).doesNotContain(last);
+        assertThat(hitIds(String.format("terme%03d", QuizInvertedIndex.MAX_PREFIX_EXPANSIONS))).hasSize(2);
+    }
+
+    @Test
+    void accentsAreFoldedAndOneLetterTermsAreSearchable() {
+        UUID elephant = index(row("L'éléphant à l'école", null));
+        UUID languageC = index(row("Langage C", "Pointeurs"));
+        
+        assertThat(hitIds("ELEPHANT ecole")).containsExactly(elephant);
+        assertThat(hitIds("Éléphant")).containsExactly(elephant);
+        assertThat(hitIds("c pointeurs")).containsExactly(languageC);
+    }
+
+    @Test
+    void ordinalOfARemovedQuizIsReused() {
+        index(row("Premier", null));
+        UUID removed = index(row("Second", null));
+        index(row("Troisième", null));
+        int freed = index.ordinalOf(removed);
+        
+        index.remove(removed);
+        UUID added = index(row("Quatrième", null));
+        
+        assertThat(index.ordinalOf(added)).isEqualTo(freed);
+        assertThat(index.ordinalOf(removed)).isNull();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(hitIds("second")).isEmpty();
+        assertThat(hitIds("quatrieme")).containsExactly(added);
+    }
+
+    @Test
+    void removedQuizCanBeIndexedAgain() {
+        QuizRow original = row("Histoire de France", "Les rois");
+        index.upsert(original, Set.of());
+        index.remove(original.id());
+        
+        assertThat(index.size()).isZero();
+        assertThat(index.termCount()).isZero();
+        assertThat(hitIds("histoire")).isEmpty();
+        
+        index.upsert(row(original.id(), "Géographie", "Les fleuves"), Set.of());
+        
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(hitIds("histoire")).isEmpty();
+        assertThat(hitIds("geographie fleuves")).containsExactly(original.id());
+        assertThat(index.facetCounts(new QuizSearchCriteria(null, null, null, null)).get("difficultyLevel"))
+                .containsExactly(Map.entry("EASY", 1L));
+    }
+
+    @Test
+    void updatedQuizReplacesItsTerms() {
+        QuizRow original = row("Histoire", null);
+        index.upsert(original, Set.of());
+        
+        index.upsert(row(original.id(), "Géographie", null), Set.of());
+        
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(hitIds("histoire")).isEmpty();
+        assertThat(hitIds("geographie")).containsExactly(original.id());
+    }
+
+    @Test
+    void searchWithoutTermReturnsNewestFirst() {
+        UUID older = index(row(UUID.randomUUID(), "Ancien", null, LocalDateTime.of(2024, 1, 1, 0, 0)));
+        UUID newer = index(row(UUID.randomUUID(), "Récent", null, LocalDateTime.of(2025, 1, 1, 0, 0)));
+        
+        assertThat(hitIds(null)).containsExactly(newer, older);
+        assertThat(index.search(new QuizSearchCriteria(null, null, null, null), PageRequest.of(1, 1))
+                .map(QuizSearchHit::quizId).getContent()).containsExactly(older);
+    }
+
+    private UUID index(QuizRow row) {
+        index.upsert(row, Set.of());
+        return row.id();
+    }
+
+    private List<UUID> hitIds(String term) {
+        return index.search(new QuizSearchCriteria(term, null, null, null), ALL)
+                .map(QuizSearchHit::quizId)
+                .getContent();
+    }
+
+    private static QuizRow row(String title, String description) {
+        return row(UUID.randomUUID(), title, description);
+    }
+
+    private static QuizRow row(UUID id, String title, String description) {
+        return row(id, title, description, LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+
+    private static QuizRow row(UUID id, String title, String description, LocalDateTime createdAt) {
+        return new QuizRow(id, title, description, "EASY", null, null, "PUBLISHED", true, createdAt, null,
+                null, null, null, null, null, null);
+    }
+}
\ No newline at end of file
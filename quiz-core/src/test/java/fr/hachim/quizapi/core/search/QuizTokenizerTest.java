@@ -0,0 +1,25 @@
+package fr.hachim.quizapi.core.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class QuizTokenizerTest {
+
+    @Test
+    void accentsAndCaseAreFolded() {
+        assertThat(QuizTokenizer.tokenize("Éléphants à l'ÉCOLE, Noël"))
+                .containsExactly("elephants", "a", "l", "ecole", "noel");
+    }
+
+    @Test
+    void oneLetterTermsAreKept() {
+        assertThat(QuizTokenizer.tokenize("Langage C (note : B+)")).containsExactly("langage", "c", "note", "b");
+    }
+
+    @Test
+    void blankTextHasNoTerm() {
+        assertThat(QuizTokenizer.tokenize(null)).isEmpty();
+        assertThat(QuizTokenizer.tokenize("  -- ")).isEmpty();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package fr.hachim.quizapi.core.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.hachim.quizapi.core.PostgresIntegrationTest;
+import fr.hachim.quizapi.core.exporter.QuizExportRecord;
+import fr.hachim.quizapi.core.service.QuizExportService;
+
+/**
+ * Export : le terme filtre sur le vecteur plein texte, comme la recherche.
+ */
+@PostgresIntegrationTest
+@Transactional
+class QuizExportServiceImplTest {
+
+    @Autowired
+    private QuizExportService quizExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID categoryId;
+
+    @BeforeEach
+    void insertQuizzes() {
+        UUID adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'admin'", UUID.class);
+        categoryId = jdbcTemplate.queryForObject("INSERT INTO categories (name) VALUES ('Programmation exportée') " +
+                "RETURNING id", UUID.class);
+        UUID tagId = jdbcTemplate.queryForObject("INSERT INTO tags (name) VALUES ('Exporté') RETURNING id",
+                UUID.class);
+        UUID streamsId = jdbcTemplate.queryForObject("INSERT INTO quizzes (title, description, time_limit, " +
+                "passing_score, status, is_public, category_id, created_by) VALUES ('Streams en Java', " +
+                "'Collecteurs et flux', 600, 75.00, 'PUBLISHED', true, ?, ?) RETURNING id",
+                UUID.class, categoryId, adminId);
+        jdbcTemplate.update("INSERT INTO quiz_tags (quiz_id, tag_id) VALUES (?, ?)", streamsId, tagId);
+        jdbcTemplate.update("INSERT INTO quizzes (title, description, status, is_public, created_by) " +
+                "VALUES ('Recettes de saison', 'Cuisine et jardin', 'DRAFT', false, ?)", adminId);
+    }
+
+    @Test
+    void termMatchesStemmedWordsAcrossTitleAndDescription() {
+        List<QuizExportRecord> exported = export("flux collecteur jav");
+        
+        assertThat(exported).singleElement().satisfies(record -> {
+            assertThat(record.title()).isEqualTo("Streams en Java");
+            assertThat(record.timeLimit()).isEqualTo(600);
+            assertThat(record.passingScore()).isEqualByComparingTo(new BigDecimal("75"));
+            assertThat(record.categoryId()).isEqualTo(categoryId);
+            assertThat(record.category()).isEqualTo("Programmation exportée");
+            assertThat(record.tags()).containsExactly("Exporté");
+        });
+    }
+
+    @Test
+    void termDoesNotMatchInsideWords() {
+        // L'ancien filtre LIKE '%ream%' aurait retenu « Streams »
+        assertThat(export("ream")).isEmpty();
+    }
+
+    @Test
+    void termWithoutWordsExportsNothing() {
+        assertThat(export(" !? ")).isEmpty();
+    }
+
+    @Test
+    void noTermExportsEveryQuiz() {
+        assertThat(export(null)).extracting(QuizExportRecord::title)
+                .contains("Streams en Java", "Recettes de saison");
+    }
+
+    private List<QuizExportRecord> export(String searchTerm) {
+        List<QuizExportRecord> exported = new ArrayList<>();
+        long count = quizExportService.exportQuizzes(searchTerm, null, null, null, null, exported::add);
+        assertThat(count).isEqualTo(exported.size());
+        return exported;
+    }
+}
\ No newline at end of file
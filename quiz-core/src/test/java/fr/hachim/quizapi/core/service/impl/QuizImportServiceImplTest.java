@@ -0,0 +1,112 @@
+package fr.hachim.quizapi.core.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.hachim.quizapi.core.PostgresIntegrationTest;
+import fr.hachim.quizapi.core.importer.ImportFormat;
+import fr.hachim.quizapi.core.importer.ImportReport;
+import fr.hachim.quizapi.core.service.QuizImportService;
+
+/**
+ * Import en masse : COPY dans la table de transit puis fusion dans quizzes, tags et quiz_tags.
+ */
+@PostgresIntegrationTest
+@Transactional
+class QuizImportServiceImplTest {
+
+    @Autowired
+    private QuizImportService quizImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuditorAware<UUID> auditorProvider;
+
+    @BeforeEach
+    void insertReferenceData() {
+        // Auteur des quiz importés : l'utilisateur courant d'après l'audit JPA
+        UUID auditorId = auditorProvider.getCurrentAuditor().orElseThrow();
+        jdbcTemplate.update("INSERT INTO users (id, username, email, password_hash) VALUES (?, ?, ?, ?) " +
+                "ON CONFLICT (id) DO NOTHING", auditorId, "import-auditor", "import-auditor@example.com", "hash");
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('Programmation')");
+        jdbcTemplate.update("INSERT INTO tags (name) VALUES ('Java')");
+    }
+
+    @Test
+    void ndjsonImportMergesValidRecordsAndReportsRejections() {
+        ImportReport report = importQuizzes(ImportFormat.NDJSON, """
+                {"title": "Streams", "difficultyLevel": "medium", "category": "programmation", "tags": ["JAVA", "Kotlin"]}
+                {"title": "Records", "status": "published", "isPublic": true, "tags": ["java"]}
+                {"title": "Niveau inconnu", "difficultyLevel": "IMPOSSIBLE"}
+                """);
+        
+        assertThat(report.rowsRead()).isEqualTo(3);
+        assertThat(report.rowsRejected()).isEqualTo(1);
+        assertThat(report.errors()).singleElement().asString().contains("IMPOSSIBLE");
+        assertThat(report.quizzesImported()).isEqualTo(2);
+        assertThat(report.tagsCreated()).isEqualTo(1);
+        assertThat(report.tagLinks()).isEqualTo(3);
+        
+        assertThat(tagNamesOf("Streams")).containsExactlyInAnyOrder("Java", "Kotlin");
+        assertThat(jdbcTemplate.queryForObject("SELECT c.name FROM quizzes q JOIN categories c ON c.id = q.category_id " +
+                "WHERE q.title = 'Streams'", String.class)).isEqualTo("Programmation");
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM quizzes WHERE title = 'Records'", String.class))
+                .isEqualTo("PUBLISHED");
+    }
+
+    @Test
+    void csvImportSplitsTagLists() {
+        ImportReport report = importQuizzes(ImportFormat.CSV, """
+                title,difficultyLevel,category,tags
+                Génériques,HARD,Programmation,Java;Types
+                Sans tag,,,
+                """);
+        
+        assertThat(report.rowsRead()).isEqualTo(2);
+        assertThat(report.rowsRejected()).isZero();
+        assertThat(report.quizzesImported()).isEqualTo(2);
+        assertThat(tagNamesOf("Génériques")).containsExactlyInAnyOrder("Java", "Types");
+        assertThat(tagNamesOf("Sans tag")).isEmpty();
+    }
+
+    @Test
+    void softDeletedTagReusedByTheImportIsRestored() {
+        jdbcTemplate.update("INSERT INTO tags (name, deleted_at) VALUES ('Archivé', ?)", LocalDateTime.now());
+        
+        ImportReport report = importQuizzes(ImportFormat.NDJSON, """
+                {"title": "Ancien sujet", "tags": ["Archivé"]}
+                """);
+        
+        assertThat(report.tagsCreated()).isZero();
+        assertThat(report.tagsRestored()).isEqualTo(1);
+        assertThat(report.tagLinks()).isEqualTo(1);
+        assertThat(tagNamesOf("Ancien sujet")).containsExactly("Archivé");
+        assertThat(jdbcTemplate.queryForObject("SELECT deleted_at IS NULL FROM tags WHERE name = 'Archivé'",
+                Boolean.class)).isTrue();
+    }
+
+    private ImportReport importQuizzes(ImportFormat format, String content) {
+        InputStream input = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        return quizImportService.importQuizzes(input, format, progress -> { });
+    }
+
+    private List<String> tagNamesOf(String quizTitle) {
+        return jdbcTemplate.queryForList("SELECT t.name FROM quizzes q JOIN quiz_tags qt ON qt.quiz_id = q.id " +
+                "JOIN tags t ON t.id = qt.tag_id WHERE q.title = ?", String.class, quizTitle);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package fr.hachim.quizapi.core.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import fr.hachim.quizapi.core.PostgresIntegrationTest;
+import fr.hachim.quizapi.core.model.User;
+import fr.hachim.quizapi.core.pagination.KeysetCursor;
+import fr.hachim.quizapi.core.service.UserService;
+
+/**
+ * Les utilisateurs supprimés sont exclus des listes, par page comme par curseur.
+ */
+@PostgresIntegrationTest
+@Transactional
+class UserServiceImplTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID firstUserId;
+
+    @BeforeEach
+    void insertUsers() {
+        firstUserId = insertUser("keyset-a", null);
+        insertUser("keyset-b", null);
+        insertUser("keyset-deleted", LocalDateTime.now());
+    }
+
+    @Test
+    void deletedUsersAreExcludedInBothPaginationModes() {
+        List<String> byPage = userService.findAllUsers(PageRequest.of(0, 100)).map(User::getUsername).getContent();
+        List<String> byCursor = userService.findUsersAfter(null, 100).stream().map(User::getUsername).toList();
+        
+        assertThat(byPage).contains("keyset-a", "keyset-b").doesNotContain("keyset-deleted");
+        assertThat(byCursor).containsExactlyInAnyOrderElementsOf(byPage);
+    }
+
+    @Test
+    void cursorResumesAfterTheGivenUsername() {
+        List<String> next = userService.findUsersAfter(KeysetCursor.of("keyset-a", firstUserId), 100).stream()
+                .map(User::getUsername)
+                .toList();
+        
+        assertThat(next).startsWith("keyset-b").doesNotContain("keyset-a", "keyset-deleted");
+    }
+
+    private UUID insertUser(String username, LocalDateTime deletedAt) {
+        UUID userId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, username, email, password_hash, deleted_at) VALUES (?, ?, ?, ?, ?)",
+                userId, username, username + "@example.com", "hash", deletedAt);
+        return userId;
+    }
+}
\ No newline at end of file
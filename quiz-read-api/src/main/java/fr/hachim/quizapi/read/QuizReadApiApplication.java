@@ -0,0 +1,17 @@
+package fr.hachim.quizapi.read;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Point d'entrée de l'API réactive de lecture du catalogue.
+ * Expose les mêmes contrats GET que l'application principale (quiz, catégories, tags),
+ * sur WebFlux et R2DBC, afin de pouvoir être déployée et dimensionnée séparément.
+ */
+@SpringBootApplication
+public class QuizReadApiApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(QuizReadApiApplication.class, args);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package fr.hachim.quizapi.read.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+
+/**
+ * Configuration de sécurité de l'API de lecture.
+ * Seules les lectures publiques du catalogue et la sonde de santé sont ouvertes,
+ * toute autre requête est refusée : les écritures restent sur l'application principale.
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class ReadSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers(HttpMethod.GET, "/api/v1/quizzes/**", "/api/v1/categories/**", "/api/v1/tags/**").permitAll()
+                        .pathMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .anyExchange().denyAll())
+                .build();
+    }
+}
\ No newline at end of file
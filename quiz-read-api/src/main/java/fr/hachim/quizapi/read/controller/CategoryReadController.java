@@ -0,0 +1,70 @@
+package fr.hachim.quizapi.read.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import fr.hachim.quizapi.core.dto.ApiResponse;
+import fr.hachim.quizapi.core.dto.CategoryDTO;
+import fr.hachim.quizapi.read.repository.CategoryReadRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contrôleur réactif pour la lecture des catégories.
+ * Même contrat que les GET correspondants de {@code CategoryController} dans le module core.
+ */
+@RestController
+@RequestMapping("/api/v1/categories")
+@RequiredArgsConstructor
+public class CategoryReadController {
+
+    private final CategoryReadRepository categoryReadRepository;
+
+    /**
+     * Récupère toutes les catégories.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<List<CategoryDTO>>>> getAllCategories(
+            @RequestParam(required = false) Boolean onlyRoots) {
+        
+        Flux<CategoryDTO> categories = Boolean.TRUE.equals(onlyRoots)
+                ? categoryReadRepository.findRoots()
+                : categoryReadRepository.findAll();
+        
+        return categories.collectList()
+                .map(categoryDTOs -> ResponseEntity.ok(ApiResponse.success(categoryDTOs, 
+                        "Catégories récupérées avec succès")));
+    }
+    
+    /**
+     * Récupère une catégorie par son ID.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<CategoryDTO>>> getCategoryById(@PathVariable UUID id) {
+        return categoryReadRepository.findById(id)
+                .map(categoryDTO -> ResponseEntity.ok(ApiResponse.success(categoryDTO, 
+                        "Catégorie récupérée avec succès")))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Catégorie non trouvée")));
+    }
+    
+    /**
+     * Récupère les sous-catégories d'une catégorie.
+     */
+    @GetMapping("/{id}/subcategories")
+    public Mono<ResponseEntity<ApiResponse<List<CategoryDTO>>>> getSubcategories(@PathVariable UUID id) {
+        return categoryReadRepository.findChildren(id)
+                .collectList()
+                .map(subcategoryDTOs -> ResponseEntity.ok(ApiResponse.success(subcategoryDTOs, 
+                        "Sous-catégories récupérées avec succès")));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,86 @@
+package fr.hachim.quizapi.read.controller;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import fr.hachim.quizapi.core.dto.ApiResponse;
+import fr.hachim.quizapi.core.dto.PageResponse;
+import fr.hachim.quizapi.core.dto.QuizDTO;
+import fr.hachim.quizapi.read.repository.QuizReadRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contrôleur réactif pour la lecture des quiz.
+ * Même contrat que les GET correspondants de {@code QuizController} dans le module core.
+ */
+@RestController
+@RequestMapping("/api/v1/quizzes")
+@RequiredArgsConstructor
+public class QuizReadController {
+
+    private final QuizReadRepository quizReadRepository;
+
+    /**
+     * Récupère tous les quiz, avec pagination.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<PageResponse<QuizDTO>>>> getAllQuizzes(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String direction) {
+        
+        String sortColumn = QuizReadRepository.sortColumn(sortBy).orElse(null);
+        if (sortColumn == null) {
+            return Mono.just(ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Critère de tri invalide : " + sortBy)));
+        }
+        boolean ascending = !"desc".equalsIgnoreCase(direction);
+        Pageable pageable = PageRequest.of(page, size);
+        
+        return quizReadRepository.findPage(sortColumn, ascending, pageable.getPageSize(), pageable.getOffset())
+                .collectList()
+                .flatMap(this::withTags)
+                .zipWith(quizReadRepository.countAll())
+                .map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()))
+                .map(quizDTOsPage -> ResponseEntity.ok(ApiResponse.success(PageResponse.from(quizDTOsPage), 
+                        "Quiz récupérés avec succès")));
+    }
+    
+    /**
+     * Récupère un quiz par son ID.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<QuizDTO>>> getQuizById(@PathVariable UUID id) {
+        return quizReadRepository.findById(id)
+                .flatMap(quizDTO -> withTags(List.of(quizDTO)))
+                .map(quizDTOs -> ResponseEntity.ok(ApiResponse.success(quizDTOs.get(0), "Quiz récupéré avec succès")))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Quiz non trouvé")));
+    }
+    
+    /**
+     * Complète les quiz avec leurs tags, chargés en une seule requête.
+     */
+    private Mono<List<QuizDTO>> withTags(List<QuizDTO> quizDTOs) {
+        List<UUID> ids = quizDTOs.stream().map(QuizDTO::getId).toList();
+        return quizReadRepository.findTagsByQuizIds(ids)
+                .map(tagsByQuizId -> {
+                    quizDTOs.forEach(quizDTO -> quizDTO.setTags(tagsByQuizId.getOrDefault(quizDTO.getId(), Set.of())));
+                    return quizDTOs;
+                });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package fr.hachim.quizapi.read.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import fr.hachim.quizapi.core.dto.ApiResponse;
+import fr.hachim.quizapi.core.dto.TagDTO;
+import fr.hachim.quizapi.read.repository.TagReadRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contrôleur réactif pour la lecture des tags.
+ * Même contrat que les GET correspondants de {@code TagController} dans le module core.
+ */
+@RestController
+@RequestMapping("/api/v1/tags")
+@RequiredArgsConstructor
+public class TagReadController {
+
+    private final TagReadRepository tagReadRepository;
+
+    /**
+     * Récupère tous les tags.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<List<TagDTO>>>> getAllTags() {
+        return tagReadRepository.findAll()
+                .collectList()
+                .map(tagDTOs -> ResponseEntity.ok(ApiResponse.success(tagDTOs, 
+                        "Tags récupérés avec succès")));
+    }
+    
+    /**
+     * Récupère un tag par son ID.
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<TagDTO>>> getTagById(@PathVariable UUID id) {
+        return tagReadRepository.findById(id)
+                .map(tagDTO -> ResponseEntity.ok(ApiResponse.success(tagDTO, "Tag récupéré avec succès")))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponse.error("Tag non trouvé")));
+    }
+    
+    /**
+     * Récupère les tags populaires.
+     */
+    @GetMapping("/popular")
+    public Mono<ResponseEntity<ApiResponse<List<TagDTO>>>> getPopularTags(
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        return tagReadRepository.findPopular(limit)
+                .collectList()
+                .map(tagDTOs -> ResponseEntity.ok(ApiResponse.success(tagDTOs, 
+                        "Tags populaires récupérés avec succès")));
+    }
+}
\ No newline at end of file
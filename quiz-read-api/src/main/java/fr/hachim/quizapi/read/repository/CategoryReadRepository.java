@@ -0,0 +1,93 @@
+package fr.hachim.quizapi.read.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import fr.hachim.quizapi.core.dto.CategoryDTO;
+import fr.hachim.quizapi.core.mapper.CategoryMapper;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Accès réactif en lecture aux catégories.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryReadRepository {
+
+    private static final String CATEGORY_SELECT = "SELECT id, name, description, parent_id, created_at, " +
+            "created_by, quiz_count FROM categories WHERE deleted_at IS NULL ";
+
+    private static final String ROOTS_SELECT = "SELECT c.id, c.name, c.description, CAST(NULL AS uuid) AS parent_id, " +
+            "c.created_at, c.created_by, c.quiz_count FROM categories c WHERE c.deleted_at IS NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM categories p WHERE p.id = c.parent_id AND p.deleted_at IS NULL) " +
+            "ORDER BY lower(c.name), c.id";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Récupère toutes les catégories non supprimées.
+     * 
+     * @return Les catégories, avec leur nombre de quiz
+     */
+    public Flux<CategoryDTO> findAll() {
+        return databaseClient.sql(CATEGORY_SELECT + "ORDER BY name")
+                .map((row, metadata) -> toCategoryDTO(row))
+                .all();
+    }
+
+    /**
+     * Récupère les catégories racines, comme l'arbre des catégories de l'application principale :
+     * une catégorie dont le parent est supprimé est une racine, et son parent n'est pas exposé.
+     * 
+     * @return Les catégories sans parent non supprimé, triées par nom
+     */
+    public Flux<CategoryDTO> findRoots() {
+        return databaseClient.sql(ROOTS_SELECT)
+                .map((row, metadata) -> toCategoryDTO(row))
+                .all();
+    }
+
+    /**
+     * Récupère les sous-catégories directes d'une catégorie.
+     * 
+     * @param parentId ID de la catégorie parente
+     * @return Les sous-catégories, triées par nom
+     */
+    public Flux<CategoryDTO> findChildren(UUID parentId) {
+        return databaseClient.sql(CATEGORY_SELECT + "AND parent_id = :parentId ORDER BY name")
+                .bind("parentId", parentId)
+                .map((row, metadata) -> toCategoryDTO(row))
+                .all();
+    }
+
+    /**
+     * Récupère une catégorie non supprimée.
+     * 
+     * @param id ID de la catégorie
+     * @return La catégorie, ou vide si elle n'existe pas
+     */
+    public Mono<CategoryDTO> findById(UUID id) {
+        return databaseClient.sql(CATEGORY_SELECT + "AND id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toCategoryDTO(row))
+                .one();
+    }
+
+    private CategoryDTO toCategoryDTO(Row row) {
+        CategoryDTO category = CategoryMapper.fromColumns(
+                row.get("id", UUID.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("parent_id", UUID.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("created_by", UUID.class));
+        category.setQuizCount(row.get("quiz_count", Long.class));
+        return category;
+    }
+}
\ No newline at end of file
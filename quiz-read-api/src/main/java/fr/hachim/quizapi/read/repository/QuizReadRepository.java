@@ -0,0 +1,158 @@
+package fr.hachim.quizapi.read.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import fr.hachim.quizapi.core.dto.QuizDTO;
+import fr.hachim.quizapi.core.dto.TagDTO;
+import fr.hachim.quizapi.core.mapper.CategoryMapper;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Accès réactif en lecture aux quiz.
+ * Les requêtes reprennent celles de {@code QuizRepository} (projection QuizRow) en SQL natif.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuizReadRepository {
+
+    /**
+     * Propriétés de tri acceptées par l'API et colonnes correspondantes.
+     * Le nom de colonne est concaténé dans la requête : seule cette liste blanche est autorisée.
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "q.id",
+            "title", "q.title",
+            "difficultyLevel", "q.difficulty_level",
+            "timeLimit", "q.time_limit",
+            "passingScore", "q.passing_score",
+            "status", "q.status",
+            "isPublic", "q.is_public",
+            "createdAt", "q.created_at");
+
+    private static final String QUIZ_SELECT = "SELECT q.id, q.title, q.description, q.difficulty_level, " +
+            "q.time_limit, q.passing_score, q.status, q.is_public, q.created_at, q.created_by, " +
+            "c.id AS category_id, c.name AS category_name, c.description AS category_description, " +
+            "c.parent_id AS category_parent_id, c.created_at AS category_created_at, " +
+            "c.created_by AS category_created_by " +
+            "FROM quizzes q LEFT JOIN categories c ON c.id = q.category_id " +
+            "WHERE q.deleted_at IS NULL ";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Retourne la colonne SQL associée à une propriété de tri de l'API.
+     * 
+     * @param sortBy Propriété demandée (ex. {@code createdAt})
+     * @return La colonne, ou vide si la propriété n'est pas triable
+     */
+    public static Optional<String> sortColumn(String sortBy) {
+        return Optional.ofNullable(SORT_COLUMNS.get(sortBy));
+    }
+
+    /**
+     * Récupère une page de quiz, sans leurs tags.
+     * 
+     * @param sortColumn Colonne de tri, issue de {@link #sortColumn(String)}
+     * @param ascending Sens du tri
+     * @param limit Taille de la page
+     * @param offset Position du premier élément
+     * @return Les quiz de la page
+     */
+    public Flux<QuizDTO> findPage(String sortColumn, boolean ascending, int limit, long offset) {
+        String direction = ascending ? "ASC" : "DESC";
+        return databaseClient.sql(QUIZ_SELECT +
+                        "ORDER BY " + sortColumn + " " + direction + ", q.id " + direction + " " +
+                        "LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map((row, metadata) -> toQuizDTO(row))
+                .all();
+    }
+
+    /**
+     * Compte les quiz non supprimés.
+     * 
+     * @return Nombre total de quiz
+     */
+    public Mono<Long> countAll() {
+        return databaseClient.sql("SELECT COUNT(*) FROM quizzes WHERE deleted_at IS NULL")
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Récupère un quiz non supprimé, sans ses tags.
+     * 
+     * @param id ID du quiz
+     * @return Le quiz, ou vide s'il n'existe pas
+     */
+    public Mono<QuizDTO> findById(UUID id) {
+        return databaseClient.sql(QUIZ_SELECT + "AND q.id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toQuizDTO(row))
+                .one();
+    }
+
+    /**
+     * Charge en une requête les tags actifs de plusieurs quiz.
+     * 
+     * @param quizIds IDs des quiz
+     * @return Map quizId vers ses tags (les quiz sans tag sont absents)
+     */
+    public Mono<Map<UUID, Set<TagDTO>>> findTagsByQuizIds(Collection<UUID> quizIds) {
+        if (quizIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return databaseClient.sql("SELECT qt.quiz_id, t.id, t.name, t.created_at, t.created_by " +
+                        "FROM quiz_tags qt JOIN tags t ON t.id = qt.tag_id " +
+                        "WHERE qt.quiz_id = ANY(:quizIds) AND t.deleted_at IS NULL")
+                .bind("quizIds", quizIds.toArray(UUID[]::new))
+                .map((row, metadata) -> Map.entry(row.get("quiz_id", UUID.class), TagDTO.builder()
+                        .id(row.get("id", UUID.class))
+                        .name(row.get("name", String.class))
+                        .createdAt(row.get("created_at", LocalDateTime.class))
+                        .createdBy(row.get("created_by", UUID.class))
+                        .build()))
+                .all()
+                .collect(HashMap::new, (tagsByQuizId, entry) -> tagsByQuizId
+                        .computeIfAbsent(entry.getKey(), quizId -> new HashSet<>())
+                        .add(entry.getValue()));
+    }
+
+    private QuizDTO toQuizDTO(Row row) {
+        QuizDTO.QuizDTOBuilder builder = QuizDTO.builder()
+                .id(row.get("id", UUID.class))
+                .title(row.get("title", String.class))
+                .description(row.get("description", String.class))
+                .difficultyLevel(row.get("difficulty_level", String.class))
+                .timeLimit(row.get("time_limit", Integer.class))
+                .passingScore(row.get("passing_score", BigDecimal.class))
+                .status(row.get("status", String.class))
+                .isPublic(row.get("is_public", Boolean.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .createdBy(row.get("created_by", UUID.class));
+        
+        builder.category(CategoryMapper.fromColumns(
+                row.get("category_id", UUID.class),
+                row.get("category_name", String.class),
+                row.get("category_description", String.class),
+                row.get("category_parent_id", UUID.class),
+                row.get("category_created_at", LocalDateTime.class),
+                row.get("category_created_by", UUID.class)));
+        return builder.build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package fr.hachim.quizapi.read.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import fr.hachim.quizapi.core.dto.TagDTO;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Accès réactif en lecture aux tags.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TagReadRepository {
+
+    private static final String TAG_SELECT = "SELECT id, name, created_at, created_by, quiz_count " +
+            "FROM tags WHERE deleted_at IS NULL ";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Récupère tous les tags non supprimés.
+     * 
+     * @return Les tags, avec leur nombre de quiz
+     */
+    public Flux<TagDTO> findAll() {
+        return databaseClient.sql(TAG_SELECT + "ORDER BY name")
+                .map((row, metadata) -> toTagDTO(row))
+                .all();
+    }
+
+    /**
+     * Récupère un tag non supprimé.
+     * 
+     * @param id ID du tag
+     * @return Le tag, ou vide s'il n'existe pas
+     */
+    public Mono<TagDTO> findById(UUID id) {
+        return databaseClient.sql(TAG_SELECT + "AND id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toTagDTO(row))
+                .one();
+    }
+
+    /**
+     * Récupère les tags les plus utilisés.
+     * 
+     * @param limit Nombre maximum de tags à retourner
+     * @return Les tags utilisés par au moins un quiz, du plus au moins utilisé
+     */
+    public Flux<TagDTO> findPopular(int limit) {
+        return databaseClient.sql(TAG_SELECT + "AND quiz_count > 0 ORDER BY quiz_count DESC LIMIT :limit")
+                .bind("limit", limit)
+                .map((row, metadata) -> toTagDTO(row))
+                .all();
+    }
+
+    private TagDTO toTagDTO(Row row) {
+        return TagDTO.builder()
+                .id(row.get("id", UUID.class))
+                .name(row.get("name", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .createdBy(row.get("created_by", UUID.class))
+                .quizCount(row.get("quiz_count", Long.class))
+                .build();
+    }
+}
\ No newline at end of file